@@ -0,0 +1,215 @@
+package seedu.edudex;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.edudex.commons.core.Config;
+import seedu.edudex.commons.core.LogsCenter;
+import seedu.edudex.commons.exceptions.DataLoadingException;
+import seedu.edudex.commons.util.ConfigUtil;
+import seedu.edudex.commons.util.StringUtil;
+import seedu.edudex.logic.Logic;
+import seedu.edudex.logic.LogicManager;
+import seedu.edudex.model.EduDex;
+import seedu.edudex.model.Model;
+import seedu.edudex.model.ModelManager;
+import seedu.edudex.model.ReadOnlyEduDex;
+import seedu.edudex.model.ReadOnlyUserPrefs;
+import seedu.edudex.model.UserPrefs;
+import seedu.edudex.model.util.SampleDataUtil;
+import seedu.edudex.storage.EduDexStorage;
+import seedu.edudex.storage.EduDexStorageConverter;
+import seedu.edudex.storage.FileEduDexStorage;
+import seedu.edudex.storage.JournaledEduDexStorage;
+import seedu.edudex.storage.JsonUserPrefsStorage;
+import seedu.edudex.storage.Storage;
+import seedu.edudex.storage.StorageManager;
+import seedu.edudex.storage.UserPrefsStorage;
+
+/**
+ * Sets up and shuts down the non-GUI components of the application: the config, storage, model and logic.
+ *
+ * Nothing here depends on the JavaFX toolkit, so the same components can back both the GUI and the headless mode.
+ */
+public class AppBootstrap {
+
+    private static final Logger logger = LogsCenter.getLogger(AppBootstrap.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    private boolean isFirstLaunch = false;
+
+    /** Whether the EduDex of the model was loaded from storage, so it need not be saved until it changes. */
+    private boolean isEduDexLoaded = false;
+
+    /**
+     * Initializes the components of the application from the config file at {@code configFilePath}, or from the
+     * default config file if {@code configFilePath} is null.
+     */
+    public AppBootstrap(Path configFilePath) {
+        config = initConfig(configFilePath);
+        initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        FileEduDexStorage fileEduDexStorage = EduDexStorageConverter.createStorage(userPrefs.getEduDexFilePath(),
+                userPrefs.getEduDexFileFormat(), config.isCompactDataFileEnabled());
+        EduDexStorage eduDexStorage = config.isJournalEnabled()
+                ? new JournaledEduDexStorage(fileEduDexStorage, config.getJournalCompactionThreshold())
+                : fileEduDexStorage;
+        storage = new StorageManager(eduDexStorage, userPrefsStorage, config.isAsyncSaveEnabled());
+
+        model = initModelManager(storage, userPrefs);
+
+        logic = new LogicManager(model, storage, isEduDexLoaded);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Returns true if no data file was found, and the model was populated with sample data instead.
+     */
+    public boolean isFirstLaunch() {
+        return isFirstLaunch;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s EduDex and {@code userPrefs}. <br>
+     * The data from the sample EduDex will be used instead if {@code storage}'s EduDex is not found,
+     * or an empty EduDex will be used instead if errors occur when reading {@code storage}'s EduDex.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getEduDexFilePath());
+
+        Optional<ReadOnlyEduDex> eduDexOptional;
+        ReadOnlyEduDex initialData;
+        isFirstLaunch = false;
+
+        try {
+            eduDexOptional = storage.readEduDex();
+            if (!eduDexOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getEduDexFilePath()
+                        + " populated with a sample EduDex.");
+                isFirstLaunch = true;
+                logger.info("This is the first launch of the app.");
+            }
+            initialData = eduDexOptional.orElseGet(SampleDataUtil::getSampleEduDex);
+            isEduDexLoaded = eduDexOptional.isPresent();
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getEduDexFilePath() + " could not be loaded."
+                    + " Will be starting with an empty EduDex.");
+            initialData = new EduDex();
+        }
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Saves the user preferences, and waits for any data still being saved in the background.
+     */
+    public void stop() {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
+    }
+}
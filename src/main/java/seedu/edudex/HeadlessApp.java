@@ -0,0 +1,159 @@
+package seedu.edudex;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Logger;
+
+import seedu.edudex.api.ApiServer;
+import seedu.edudex.commons.core.LogsCenter;
+import seedu.edudex.commons.util.StringUtil;
+import seedu.edudex.logic.Logic;
+import seedu.edudex.logic.commands.CommandResult;
+import seedu.edudex.logic.commands.RunCommand;
+import seedu.edudex.logic.commands.exceptions.CommandException;
+import seedu.edudex.logic.parser.exceptions.ParseException;
+import seedu.edudex.ui.HelpWindow;
+
+/**
+ * Runs the application without a GUI, reading commands from standard input and printing their results.
+ *
+ * The JavaFX toolkit is never started in this mode, so it also works on machines without a display.
+ */
+public class HeadlessApp {
+
+    /** Command-line argument that starts the application in headless mode. */
+    public static final String HEADLESS_FLAG = "--headless";
+
+    /** Number of API requests handled at a time, which is mostly bounded by how many can read the data at once. */
+    public static final int API_THREAD_COUNT = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic}.
+     */
+    public HeadlessApp(Logic logic) {
+        this.logic = requireNonNull(logic);
+    }
+
+    /**
+     * Returns true if the command-line {@code args} ask for the application to run without a GUI, either
+     * with {@link #HEADLESS_FLAG}, by giving a script to run, or by giving a port to serve the json API on.
+     */
+    public static boolean isHeadless(String[] args) {
+        for (String arg : args) {
+            if (arg.equals(HEADLESS_FLAG)) {
+                return true;
+            }
+        }
+        AppParameters appParameters = AppParameters.parse(args);
+        return appParameters.getScriptPath() != null || appParameters.getApiPort() != null;
+    }
+
+    /**
+     * Starts the application in headless mode with the command-line {@code args}, and returns the exit status once
+     * it stops.
+     */
+    public static int launch(String[] args) {
+        logger.info("=========================[ Initializing EduDex (headless) ]======================");
+        AppParameters appParameters = AppParameters.parse(args);
+        AppBootstrap bootstrap = new AppBootstrap(appParameters.getConfigPath());
+        if (appParameters.getApiPort() != null) {
+            return serveApi(bootstrap, appParameters.getApiPort());
+        }
+        HeadlessApp app = new HeadlessApp(bootstrap.getLogic());
+
+        int status = 0;
+        try {
+            if (appParameters.getScriptPath() != null) {
+                status = app.runScript(appParameters.getScriptPath(), System.out) ? 0 : 1;
+            } else {
+                app.run(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)), System.out);
+            }
+        } catch (IOException e) {
+            logger.severe("Failed to read commands " + StringUtil.getDetails(e));
+            status = 1;
+        } finally {
+            logger.info("========================= [ Stopping EduDex (headless) ] =======================");
+            bootstrap.stop();
+        }
+        return status;
+    }
+
+    /**
+     * Serves the json API on {@code port} until the application is terminated, and returns the exit status if the
+     * API could not be served. The commands of the API are then the only ones executed on {@code bootstrap}'s logic.
+     */
+    private static int serveApi(AppBootstrap bootstrap, int port) {
+        ApiServer apiServer;
+        try {
+            apiServer = new ApiServer(bootstrap.getLogic(), port, API_THREAD_COUNT);
+        } catch (IOException e) {
+            logger.severe("Failed to serve the API on port " + port + " " + StringUtil.getDetails(e));
+            bootstrap.stop();
+            return 1;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            logger.info("========================= [ Stopping EduDex (headless) ] =======================");
+            apiServer.stop();
+            bootstrap.stop();
+        }));
+        apiServer.start();
+        try {
+            // the server threads do not keep the application running by themselves
+            new CountDownLatch(1).await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 0;
+    }
+
+    /**
+     * Executes each line read from {@code reader} as a command and prints its result to {@code out}, until the
+     * input ends or a command asks the application to exit.
+     */
+    public void run(BufferedReader reader, PrintStream out) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                CommandResult result = logic.execute(line);
+                out.println(result.isShowHelp() ? HelpWindow.HELP_MESSAGE : result.getFeedbackToUser());
+                if (result.isExit()) {
+                    return;
+                }
+            } catch (CommandException | ParseException e) {
+                out.println(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Runs the script at {@code scriptPath} and prints its results to {@code out}.
+     *
+     * @return true if every command of the script succeeded.
+     */
+    public boolean runScript(Path scriptPath, PrintStream out) {
+        logger.info("Running script " + scriptPath);
+        try {
+            out.println(logic.execute(RunCommand.COMMAND_WORD + " " + scriptPath).getFeedbackToUser());
+            return true;
+        } catch (CommandException | ParseException e) {
+            logger.warning("Script " + scriptPath + " failed: " + e.getMessage());
+            out.println(e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.edudex.api;
+
+import static seedu.edudex.logic.parser.CliSyntax.PREFIX_DAY;
+import static seedu.edudex.logic.parser.CliSyntax.PREFIX_END;
+import static seedu.edudex.logic.parser.CliSyntax.PREFIX_LESSON;
+import static seedu.edudex.logic.parser.CliSyntax.PREFIX_START;
+import static seedu.edudex.logic.parser.CliSyntax.PREFIX_SUBJECT;
+
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.edudex.commons.exceptions.IllegalValueException;
+import seedu.edudex.logic.commands.AddLessonCommand;
+import seedu.edudex.logic.commands.EditCommand;
+import seedu.edudex.logic.parser.Prefix;
+import seedu.edudex.model.person.Day;
+import seedu.edudex.model.person.Time;
+import seedu.edudex.model.subject.Subject;
+
+/**
+ * Jackson-friendly version of a request to the {@code ApiServer} to add or edit a lesson, which is carried out as the
+ * equivalent {@code addlesson} or {@code edit} command.
+ */
+class ApiLessonRequest {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Lesson request's %s field is missing!";
+    public static final String MESSAGE_INVALID_INDEX = "Indexes must be positive integers";
+
+    private final Integer person;
+    private final Integer lesson;
+    private final String subject;
+    private final String day;
+    private final String startTime;
+    private final String endTime;
+
+    /**
+     * Constructs a {@code ApiLessonRequest} with the given request details.
+     */
+    @JsonCreator
+    public ApiLessonRequest(@JsonProperty("person") Integer person, @JsonProperty("lesson") Integer lesson,
+            @JsonProperty("subject") String subject, @JsonProperty("day") String day,
+            @JsonProperty("startTime") String startTime, @JsonProperty("endTime") String endTime) {
+        this.person = person;
+        this.lesson = lesson;
+        this.subject = subject;
+        this.day = day;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    /**
+     * Returns the {@code addlesson} command text that adds the requested lesson.
+     *
+     * @throws IllegalValueException if a field is missing or invalid.
+     */
+    public String toAddLessonCommandText() throws IllegalValueException {
+        checkIndex(person, "person");
+        checkPresent(subject, "subject");
+        checkPresent(day, "day");
+        checkPresent(startTime, "startTime");
+        checkPresent(endTime, "endTime");
+        return AddLessonCommand.COMMAND_WORD + " " + person + toLessonArguments();
+    }
+
+    /**
+     * Returns the {@code edit} command text that changes the given fields of the requested lesson.
+     *
+     * @throws IllegalValueException if an index is missing, or a field is invalid.
+     */
+    public String toEditLessonCommandText() throws IllegalValueException {
+        checkIndex(person, "person");
+        checkIndex(lesson, "lesson");
+        return EditCommand.COMMAND_WORD + " " + person + " " + PREFIX_LESSON + lesson + toLessonArguments();
+    }
+
+    /**
+     * Returns the arguments for the lesson fields that are present. Each field is validated first, which also
+     * ensures that no field value can be mistaken for another prefix.
+     */
+    private String toLessonArguments() throws IllegalValueException {
+        StringBuilder arguments = new StringBuilder();
+        appendArgument(arguments, PREFIX_SUBJECT, subject, Subject::isValidSubjectName, Subject.MESSAGE_CONSTRAINTS);
+        appendArgument(arguments, PREFIX_DAY, day, Day::isValidDay, Day.MESSAGE_CONSTRAINTS);
+        appendArgument(arguments, PREFIX_START, startTime, Time::isValidTime, Time.MESSAGE_CONSTRAINTS);
+        appendArgument(arguments, PREFIX_END, endTime, Time::isValidTime, Time.MESSAGE_CONSTRAINTS);
+        return arguments.toString();
+    }
+
+    private static void appendArgument(StringBuilder arguments, Prefix prefix, String value,
+            Predicate<String> isValid, String constraints) throws IllegalValueException {
+        if (value == null) {
+            return;
+        }
+        if (!isValid.test(value)) {
+            throw new IllegalValueException(constraints);
+        }
+        arguments.append(' ').append(prefix).append(value);
+    }
+
+    private static void checkIndex(Integer index, String fieldName) throws IllegalValueException {
+        checkPresent(index, fieldName);
+        if (index <= 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_INDEX);
+        }
+    }
+
+    private static void checkPresent(Object value, String fieldName) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.edudex.api;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.Person;
+
+/**
+ * Jackson-friendly version of a {@link Person} as returned by the {@code ApiServer}, together with the index that
+ * identifies the person in requests that change its lessons.
+ */
+class ApiPerson {
+
+    private final int index;
+    private final String name;
+    private final String phone;
+    private final String school;
+    private final String address;
+    private final List<String> tags;
+    private final List<ApiLesson> lessons;
+
+    /**
+     * Converts the person at the one-based {@code index} of the person list into this class for Jackson use.
+     */
+    ApiPerson(int index, Person source) {
+        this.index = index;
+        name = source.getName().fullName;
+        phone = source.getPhone().value;
+        school = source.getSchool().value;
+        address = source.getAddress().value;
+        tags = source.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.toList());
+        lessons = source.getLessons().stream().map(ApiLesson::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Jackson-friendly version of a {@link Lesson} of an {@code ApiPerson}.
+     */
+    private static class ApiLesson {
+        private final String subject;
+        private final String day;
+        private final String startTime;
+        private final String endTime;
+
+        ApiLesson(Lesson source) {
+            subject = source.getSubject().toString();
+            day = source.getDay().toString();
+            startTime = source.getStartTime().toString();
+            endTime = source.getEndTime().toString();
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package seedu.edudex.api;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.edudex.logic.Messages.MESSAGE_EMPTY_SUBJECT;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.edudex.commons.core.LogsCenter;
+import seedu.edudex.commons.exceptions.IllegalValueException;
+import seedu.edudex.commons.util.JsonUtil;
+import seedu.edudex.logic.Logic;
+import seedu.edudex.logic.commands.CommandResult;
+import seedu.edudex.logic.commands.exceptions.CommandException;
+import seedu.edudex.logic.parser.exceptions.ParseException;
+import seedu.edudex.model.EduDexSnapshot;
+import seedu.edudex.model.person.Day;
+import seedu.edudex.model.person.Person;
+
+/**
+ * Serves a json API over HTTP to other programs on the same machine, backed by {@code Logic}.
+ *
+ * <ul>
+ *     <li>{@code GET /api/persons} lists all persons, or those matching one of the {@code name}, {@code day} or
+ *     {@code subject} query parameters, as the {@code find} command would.</li>
+ *     <li>{@code POST /api/lessons} adds a lesson to a person, and {@code PUT /api/lessons} edits one.</li>
+ * </ul>
+ *
+ * Requests are handled by a pool of threads. Listing and finding persons are queries on snapshots of the data, so
+ * they run in parallel with each other and with changes, while lessons are added and edited as commands, one at a
+ * time. Persons are found through the indexes of the snapshot, as the {@code find} command finds them through the
+ * indexes of EduDex.
+ *
+ * Persons are identified by their one-based index in the list of all persons of EduDex, as returned when listing
+ * them. Commands resolve indexes against the displayed person list, so the API must be the only front end of its
+ * {@code Logic}, which then never filters or sorts that list.
+ */
+public class ApiServer {
+
+    public static final String PERSONS_PATH = "/api/persons";
+    public static final String LESSONS_PATH = "/api/lessons";
+
+    public static final String PARAMETER_NAME = "name";
+    public static final String PARAMETER_DAY = "day";
+    public static final String PARAMETER_SUBJECT = "subject";
+
+    public static final String MESSAGE_NOT_FOUND = "No such resource: %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Method %1$s is not allowed on %2$s";
+    public static final String MESSAGE_INVALID_BODY = "Request body is not a valid lesson: %1$s";
+    public static final String MESSAGE_MULTIPLE_FILTERS = "Only one of name, day or subject can be given";
+    public static final String MESSAGE_EMPTY_NAME = "Name keywords cannot be empty";
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_INTERNAL_ERROR = 500;
+
+    /** How long {@link #stop()} waits for the requests being handled. */
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Creates an {@code ApiServer} listening on {@code port} of the loopback address, that handles up to
+     * {@code threadCount} requests at a time. A {@code port} of 0 picks any free port.
+     *
+     * @throws IOException if the port could not be bound.
+     */
+    public ApiServer(Logic logic, int port, int threadCount) throws IOException {
+        this.logic = requireNonNull(logic);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "EduDex API worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext(PERSONS_PATH, exchange -> handle(exchange, this::handlePersons));
+        server.createContext(LESSONS_PATH, exchange -> handle(exchange, this::handleLessons));
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving the EduDex API on " + server.getAddress());
+    }
+
+    /**
+     * Stops handling new requests, waits up to {@link #STOP_TIMEOUT} for the requests being handled to finish, and
+     * then closes the server with all its connections.
+     */
+    public void stop() {
+        // requests arriving once the executor is shut down are rejected, so only those already running are awaited
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                logger.warning("API requests still running after " + STOP_TIMEOUT + ", not waiting for them");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        server.stop(0);
+    }
+
+    /**
+     * Returns the port this server listens on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private ApiResponse handlePersons(HttpExchange exchange) throws IllegalValueException {
+        if (!exchange.getRequestMethod().equals("GET")) {
+            return methodNotAllowed(exchange);
+        }
+
+        Optional<Function<EduDexSnapshot, Set<Person>>> finder =
+                toPersonFinder(parseQuery(exchange.getRequestURI().getRawQuery()));
+        List<ApiPerson> persons = logic.queryEduDex(eduDex -> finder.isEmpty()
+                ? toApiPersons(eduDex.getPersonList())
+                : toApiPersons(eduDex, finder.get().apply(eduDex)));
+        return new ApiResponse(STATUS_OK, persons);
+    }
+
+    private static List<ApiPerson> toApiPersons(List<Person> personList) {
+        List<ApiPerson> apiPersons = new ArrayList<>(personList.size());
+        for (int i = 0; i < personList.size(); i++) {
+            apiPersons.add(new ApiPerson(i + 1, personList.get(i)));
+        }
+        return apiPersons;
+    }
+
+    /**
+     * Returns the {@code matches} found in {@code eduDex}, in the order of its person list.
+     */
+    private static List<ApiPerson> toApiPersons(EduDexSnapshot eduDex, Set<Person> matches) {
+        List<Person> personList = eduDex.getPersonList();
+        int[] positions = matches.stream().mapToInt(eduDex::indexOf).sorted().toArray();
+        List<ApiPerson> apiPersons = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            apiPersons.add(new ApiPerson(position + 1, personList.get(position)));
+        }
+        return apiPersons;
+    }
+
+    private ApiResponse handleLessons(HttpExchange exchange) throws IOException, IllegalValueException {
+        String method = exchange.getRequestMethod();
+        if (!method.equals("POST") && !method.equals("PUT")) {
+            return methodNotAllowed(exchange);
+        }
+
+        ApiLessonRequest request;
+        try (InputStream body = exchange.getRequestBody()) {
+            request = JsonUtil.fromJsonString(new String(body.readAllBytes(), StandardCharsets.UTF_8),
+                    ApiLessonRequest.class);
+        } catch (IOException e) {
+            return ApiResponse.ofError(STATUS_BAD_REQUEST, String.format(MESSAGE_INVALID_BODY, e.getMessage()));
+        }
+        String commandText = method.equals("POST")
+                ? request.toAddLessonCommandText()
+                : request.toEditLessonCommandText();
+
+        try {
+            CommandResult result = logic.execute(commandText);
+            return ApiResponse.ofMessage(result.getFeedbackToUser());
+        } catch (CommandException e) {
+            // failures to save the data are the only command failures that are not caused by the request
+            int status = e.getCause() instanceof IOException ? STATUS_INTERNAL_ERROR : STATUS_BAD_REQUEST;
+            return ApiResponse.ofError(status, e.getMessage());
+        } catch (ParseException e) {
+            return ApiResponse.ofError(STATUS_BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the search of a snapshot for the persons that the query {@code parameters} select, as the {@code find}
+     * command would, or an empty {@code Optional} if all persons are selected.
+     *
+     * @throws IllegalValueException if more than one filter is given, or the filter is invalid.
+     */
+    private static Optional<Function<EduDexSnapshot, Set<Person>>> toPersonFinder(Map<String, String> parameters)
+            throws IllegalValueException {
+        String name = parameters.get(PARAMETER_NAME);
+        String day = parameters.get(PARAMETER_DAY);
+        String subject = parameters.get(PARAMETER_SUBJECT);
+        long filterCount = Arrays.asList(name, day, subject).stream().filter(value -> value != null).count();
+        if (filterCount > 1) {
+            throw new IllegalValueException(MESSAGE_MULTIPLE_FILTERS);
+        }
+
+        if (name != null) {
+            if (name.isBlank()) {
+                throw new IllegalValueException(MESSAGE_EMPTY_NAME);
+            }
+            List<String> keywords = Arrays.asList(name.trim().split("\\s+"));
+            return Optional.of(eduDex -> eduDex.findPersonsByNameKeywords(keywords));
+        }
+        if (day != null) {
+            if (!Day.isValidDay(day.trim())) {
+                throw new IllegalValueException(Day.MESSAGE_CONSTRAINTS);
+            }
+            Day dayToFind = Day.of(day.trim());
+            return Optional.of(eduDex -> eduDex.findPersonsWithLessonOn(dayToFind));
+        }
+        if (subject != null) {
+            if (subject.isBlank()) {
+                throw new IllegalValueException(MESSAGE_EMPTY_SUBJECT);
+            }
+            String subjectToFind = subject.trim();
+            return Optional.of(eduDex -> eduDex.findPersonsWithLessonInSubject(subjectToFind));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the decoded parameters of the raw query string {@code rawQuery}, which may be null.
+     */
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separatorIndex = pair.indexOf('=');
+            String key = separatorIndex < 0 ? pair : pair.substring(0, separatorIndex);
+            String value = separatorIndex < 0 ? "" : pair.substring(separatorIndex + 1);
+            parameters.put(URLDecoder.decode(key, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private static ApiResponse methodNotAllowed(HttpExchange exchange) {
+        return ApiResponse.ofError(STATUS_METHOD_NOT_ALLOWED, String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                exchange.getRequestMethod(), exchange.getRequestURI().getPath()));
+    }
+
+    /**
+     * Handles {@code exchange} with {@code handler} if it is for exactly the path of its context, and sends the
+     * response.
+     */
+    private static void handle(HttpExchange exchange, RequestHandler handler) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        logger.fine("API request: " + exchange.getRequestMethod() + " " + exchange.getRequestURI());
+        ApiResponse response;
+        try {
+            response = path.equals(exchange.getHttpContext().getPath())
+                    ? handler.handle(exchange)
+                    : ApiResponse.ofError(STATUS_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+        } catch (IllegalValueException e) {
+            response = ApiResponse.ofError(STATUS_BAD_REQUEST, e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Error handling API request " + exchange.getRequestURI() + ": " + e);
+            response = ApiResponse.ofError(STATUS_INTERNAL_ERROR, e.toString());
+        }
+
+        try (exchange) {
+            byte[] body = JsonUtil.toCompactJsonString(response.body).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(response.status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * Handles a request to one of the paths of the API.
+     */
+    @FunctionalInterface
+    private interface RequestHandler {
+        ApiResponse handle(HttpExchange exchange) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * The status code of a response, and the object to send as its json body.
+     */
+    private static class ApiResponse {
+        private final int status;
+        private final Object body;
+
+        ApiResponse(int status, Object body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static ApiResponse ofMessage(String message) {
+            return new ApiResponse(STATUS_OK, Map.of("message", message));
+        }
+
+        static ApiResponse ofError(int status, String error) {
+            return new ApiResponse(status, Map.of("error", error));
+        }
+    }
+}
@@ -17,6 +17,10 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean journalEnabled = false;
+    private int journalCompactionThreshold = 100;
+    private boolean asyncSaveEnabled = false;
+    private boolean compactDataFileEnabled = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +38,50 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if changes to the data file are appended to a journal, instead of rewriting the whole file.
+     */
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    /**
+     * Returns the number of journal records after which the journal is compacted into the data file.
+     */
+    public int getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    public void setJournalCompactionThreshold(int journalCompactionThreshold) {
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    /**
+     * Returns true if the data file is written on a background thread, instead of by the command that changed it.
+     */
+    public boolean isAsyncSaveEnabled() {
+        return asyncSaveEnabled;
+    }
+
+    public void setAsyncSaveEnabled(boolean asyncSaveEnabled) {
+        this.asyncSaveEnabled = asyncSaveEnabled;
+    }
+
+    /**
+     * Returns true if the data file is written as json without indentation, which is smaller and faster to write.
+     */
+    public boolean isCompactDataFileEnabled() {
+        return compactDataFileEnabled;
+    }
+
+    public void setCompactDataFileEnabled(boolean compactDataFileEnabled) {
+        this.compactDataFileEnabled = compactDataFileEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +95,17 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && journalEnabled == otherConfig.journalEnabled
+                && journalCompactionThreshold == otherConfig.journalCompactionThreshold
+                && asyncSaveEnabled == otherConfig.asyncSaveEnabled
+                && compactDataFileEnabled == otherConfig.compactDataFileEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, journalEnabled, journalCompactionThreshold,
+                asyncSaveEnabled, compactDataFileEnabled);
     }
 
     @Override
@@ -60,6 +113,10 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("journalEnabled", journalEnabled)
+                .add("journalCompactionThreshold", journalCompactionThreshold)
+                .add("asyncSaveEnabled", asyncSaveEnabled)
+                .add("compactDataFileEnabled", compactDataFileEnabled)
                 .toString();
     }
 
@@ -0,0 +1,11 @@
+package seedu.edudex.commons.core;
+
+/**
+ * The formats that EduDex data can be stored in.
+ */
+public enum DataFileFormat {
+    /** Human-readable json, the default. */
+    JSON,
+    /** A compact binary format that is smaller and faster to load and save than json. */
+    BINARY
+}
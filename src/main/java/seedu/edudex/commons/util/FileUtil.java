@@ -1,10 +1,17 @@
 package seedu.edudex.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +19,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -74,10 +82,90 @@ public class FileUtil {
 
     /**
      * Writes given string to a file.
-     * Will create the file if it does not exist yet.
+     * Will create the file if it does not exist yet, along with its missing parent directories.
+     * The content is written to a temporary file that then replaces {@code file}, so that {@code file} holds either
+     * its old or its new content even if writing is interrupted.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content, null);
+    }
+
+    /**
+     * Similar to {@link #writeToFile(Path, String)}, but keeps the old content of {@code file}, if any, as
+     * {@code backupFile}. If writing is interrupted, {@code file} may be missing while {@code backupFile} holds its
+     * old content.
+     *
+     * @param backupFile location to keep the old content of {@code file}, or null if it need not be kept.
+     */
+    public static void writeToFile(Path file, String content, Path backupFile) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFile(file, backupFile, out -> out.write(bytes));
+    }
+
+    /**
+     * Similar to {@link #writeToFile(Path, String, Path)}, but the content is written by {@code contentWriter} to a
+     * buffered stream, so that it need not be held in memory all at once.
+     *
+     * @param backupFile location to keep the old content of {@code file}, or null if it need not be kept.
+     * @return the number of bytes written.
+     */
+    public static long writeToFile(Path file, Path backupFile, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+        long byteCount;
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                // closing the stream would close the channel before it is forced to disk, so it is only flushed
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+                byteCount = channel.size();
+            }
+            if (backupFile != null && isFileExists(file)) {
+                moveReplacing(file, backupFile);
+            }
+            moveReplacing(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        forceDirectory(directory);
+        return byteCount;
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target}, atomically where the file system allows it.
+     */
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to disk, so that files moved into it survive a crash.
+     * Does nothing on platforms where directories cannot be opened.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // not supported on this platform, the move itself is still atomic
+        }
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
@@ -0,0 +1,68 @@
+package seedu.edudex.commons.util;
+
+/**
+ * Validates strings against the simple formats used by the model, by scanning their characters instead of
+ * matching a regular expression.
+ *
+ * Each method accepts exactly the strings that the regular expression named in its description matches, with
+ * {@code \p{Alnum}} and {@code \d} covering ASCII characters only, as they do by default in Java.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code test} matches {@code \d{minLength,}}, i.e. consists of at least {@code minLength}
+     * ASCII digits.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code \p{Alnum}+}, i.e. consists of at least one ASCII letter or digit
+     * and nothing else.
+     */
+    public static boolean isAlphanumeric(String test) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code [\p{Alnum}][\p{Alnum} ]*}, i.e. starts with an ASCII letter or
+     * digit, and otherwise consists of ASCII letters, digits and spaces.
+     */
+    public static boolean isAlphanumericWords(String test) {
+        if (test.isEmpty() || !isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
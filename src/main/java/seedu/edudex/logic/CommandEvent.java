@@ -0,0 +1,45 @@
+package seedu.edudex.logic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import seedu.edudex.model.ReadOnlyEduDex;
+
+/**
+ * A Java Flight Recorder event for the execution of a command, from parsing it to saving its changes.
+ */
+@Name("seedu.edudex.Command")
+@Label("Command")
+@Category({"EduDex", "Logic"})
+@Description("Execution of a command, including parsing it and saving its changes")
+@StackTrace(false)
+class CommandEvent extends Event {
+
+    @Label("Command Word")
+    @Description("Command word of the command, or null if the input named no command")
+    private String commandWord;
+
+    @Label("Successful")
+    private boolean isSuccessful;
+
+    @Label("Persons")
+    @Description("Number of persons in EduDex after the command")
+    private int personCount;
+
+    @Label("Subjects")
+    @Description("Number of subjects in EduDex after the command")
+    private int subjectCount;
+
+    /**
+     * Sets the fields of this event for the command with {@code commandWord}, that left EduDex as {@code eduDex}.
+     */
+    void set(String commandWord, boolean isSuccessful, ReadOnlyEduDex eduDex) {
+        this.commandWord = commandWord;
+        this.isSuccessful = isSuccessful;
+        this.personCount = eduDex.getPersonList().size();
+        this.subjectCount = eduDex.getSubjectList().size();
+    }
+}
@@ -0,0 +1,226 @@
+package seedu.edudex.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.edudex.commons.util.ToStringBuilder;
+
+/**
+ * Records how long the commands executed took to parse, execute and save, and how many bytes they allocated, in
+ * histograms per command word.
+ *
+ * Each command is recorded as a whole, but the histograms are read without locking, so a summary taken while a
+ * command is being recorded may count that command in some of its histograms only.
+ */
+public class CommandMetrics {
+
+    /** Passed for a phase that was not reached, or a measurement that is not supported, to leave it unrecorded. */
+    public static final long NOT_MEASURED = -1;
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been executed yet";
+    public static final String MESSAGE_COMMAND_STATS = "%1$s (%2$d times): parse %3$s, execute %4$s, save %5$s,"
+            + " allocated %6$s";
+    public static final String MESSAGE_DURATIONS = "median %1$.2f ms, 95%% %2$.2f ms, max %3$.2f ms";
+    public static final String MESSAGE_ALLOCATIONS = "median %1$d KB, max %2$d KB";
+    public static final String MESSAGE_NOT_MEASURED = "not measured";
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final long BYTES_PER_KILOBYTE = 1024;
+
+    /** Measures allocations, or null if the JVM cannot. */
+    private static final ThreadMXBean allocationBean = findAllocationBean();
+
+    private final Map<String, CommandStats> statsByCommandWord = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the number of bytes allocated so far by the current thread, or {@link #NOT_MEASURED} if the JVM does
+     * not track allocations. Only the difference between two calls is meaningful.
+     */
+    public static long getCurrentThreadAllocatedBytes() {
+        return allocationBean == null ? NOT_MEASURED : allocationBean.getCurrentThreadAllocatedBytes();
+    }
+
+    private static ThreadMXBean findAllocationBean() {
+        java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof ThreadMXBean)) {
+            return null;
+        }
+        ThreadMXBean bean = (ThreadMXBean) threadBean;
+        return bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled() ? bean : null;
+    }
+
+    /**
+     * Records an execution of the command with {@code commandWord}. Any of the durations, in nanoseconds, and
+     * {@code allocatedBytes} may be {@link #NOT_MEASURED}.
+     */
+    public void record(String commandWord, long parseNanos, long executeNanos, long saveNanos, long allocatedBytes) {
+        requireNonNull(commandWord);
+        CommandStats stats = statsByCommandWord.computeIfAbsent(commandWord, unused -> new CommandStats());
+        stats.parseNanos.record(parseNanos);
+        stats.executeNanos.record(executeNanos);
+        stats.saveNanos.record(saveNanos);
+        stats.allocatedBytes.record(allocatedBytes);
+    }
+
+    /**
+     * Returns the statistics of each command executed, sorted by command word.
+     */
+    public SortedMap<String, CommandStats> getStats() {
+        return Collections.unmodifiableSortedMap(new TreeMap<>(statsByCommandWord));
+    }
+
+    /**
+     * Returns a summary of the statistics of each command executed, one command per line.
+     */
+    public String toSummary() {
+        SortedMap<String, CommandStats> stats = getStats();
+        if (stats.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder summary = new StringBuilder();
+        for (Map.Entry<String, CommandStats> entry : stats.entrySet()) {
+            CommandStats commandStats = entry.getValue();
+            if (summary.length() > 0) {
+                summary.append('\n');
+            }
+            summary.append(String.format(MESSAGE_COMMAND_STATS, entry.getKey(), commandStats.getCount(),
+                    formatDurations(commandStats.parseNanos), formatDurations(commandStats.executeNanos),
+                    formatDurations(commandStats.saveNanos), formatAllocations(commandStats.allocatedBytes)));
+        }
+        return summary.toString();
+    }
+
+    private static String formatDurations(Histogram nanos) {
+        if (nanos.getCount() == 0) {
+            return MESSAGE_NOT_MEASURED;
+        }
+        return String.format(MESSAGE_DURATIONS, nanos.getPercentile(0.5) / NANOS_PER_MILLI,
+                nanos.getPercentile(0.95) / NANOS_PER_MILLI, nanos.getMax() / NANOS_PER_MILLI);
+    }
+
+    private static String formatAllocations(Histogram bytes) {
+        if (bytes.getCount() == 0) {
+            return MESSAGE_NOT_MEASURED;
+        }
+        return String.format(MESSAGE_ALLOCATIONS, bytes.getPercentile(0.5) / BYTES_PER_KILOBYTE,
+                bytes.getMax() / BYTES_PER_KILOBYTE);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("stats", getStats())
+                .toString();
+    }
+
+    /**
+     * The histograms of the executions of one command.
+     */
+    public static class CommandStats {
+        private final Histogram parseNanos = new Histogram();
+        private final Histogram executeNanos = new Histogram();
+        private final Histogram saveNanos = new Histogram();
+        private final Histogram allocatedBytes = new Histogram();
+
+        /**
+         * Returns the number of times the command was executed, including those that failed to parse.
+         */
+        public long getCount() {
+            return parseNanos.getCount();
+        }
+
+        public Histogram getParseNanos() {
+            return parseNanos;
+        }
+
+        public Histogram getExecuteNanos() {
+            return executeNanos;
+        }
+
+        public Histogram getSaveNanos() {
+            return saveNanos;
+        }
+
+        public Histogram getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("parseNanos", parseNanos)
+                    .add("executeNanos", executeNanos)
+                    .add("saveNanos", saveNanos)
+                    .add("allocatedBytes", allocatedBytes)
+                    .toString();
+        }
+    }
+
+    /**
+     * A histogram of non-negative values, counted in buckets whose bounds are powers of two.
+     * Percentiles are estimated as the upper bound of the bucket they fall in, so they are within a factor of two of
+     * the actual value, which is precise enough to tell which commands slow down.
+     */
+    public static class Histogram {
+        /** Bucket {@code i} counts the values that are {@code i} bits long. */
+        private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong max = new AtomicLong();
+
+        /**
+         * Records {@code value}, unless it is negative, as {@link #NOT_MEASURED} is.
+         */
+        public void record(long value) {
+            if (value < 0) {
+                return;
+            }
+            buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(value));
+            count.incrementAndGet();
+            max.accumulateAndGet(value, Math::max);
+        }
+
+        public long getCount() {
+            return count.get();
+        }
+
+        public long getMax() {
+            return max.get();
+        }
+
+        /**
+         * Returns an estimate of the value that a {@code fraction} of the recorded values are at most, or 0 if no
+         * values were recorded.
+         */
+        public long getPercentile(double fraction) {
+            long rank = (long) Math.ceil(fraction * getCount());
+            long seenCount = 0;
+            for (int bitLength = 0; bitLength < buckets.length(); bitLength++) {
+                seenCount += buckets.get(bitLength);
+                if (seenCount >= rank && seenCount > 0) {
+                    return Math.min((1L << bitLength) - 1, getMax());
+                }
+            }
+            return getMax();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("count", getCount())
+                    .add("median", getPercentile(0.5))
+                    .add("max", getMax())
+                    .toString();
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package seedu.edudex.logic;
 
 import java.nio.file.Path;
+import java.util.function.Function;
 
 import javafx.collections.ObservableList;
 import seedu.edudex.commons.core.GuiSettings;
 import seedu.edudex.logic.commands.CommandResult;
 import seedu.edudex.logic.commands.exceptions.CommandException;
 import seedu.edudex.logic.parser.exceptions.ParseException;
+import seedu.edudex.model.EduDexSnapshot;
 import seedu.edudex.model.ReadOnlyEduDex;
 import seedu.edudex.model.person.Person;
 import seedu.edudex.model.subject.Subject;
@@ -24,6 +26,23 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the result of {@code query} on an unchanging snapshot of the EduDex as of its latest change.
+     * Unlike the other methods of {@code Logic}, this can be called from any thread: queries run concurrently with
+     * each other and with commands.
+     */
+    <T> T queryEduDex(Function<? super EduDexSnapshot, T> query);
+
+    /**
+     * Returns the counts of saves performed and skipped while executing commands.
+     */
+    SaveMetrics getSaveMetrics();
+
+    /**
+     * Returns the durations and allocations of the commands executed, per command word.
+     */
+    CommandMetrics getCommandMetrics();
+
     /**
      * Returns the EduDex.
      *
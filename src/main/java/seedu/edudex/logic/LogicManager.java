@@ -1,8 +1,15 @@
 package seedu.edudex.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -10,9 +17,11 @@ import seedu.edudex.commons.core.GuiSettings;
 import seedu.edudex.commons.core.LogsCenter;
 import seedu.edudex.logic.commands.Command;
 import seedu.edudex.logic.commands.CommandResult;
+import seedu.edudex.logic.commands.StatsCommand;
 import seedu.edudex.logic.commands.exceptions.CommandException;
 import seedu.edudex.logic.parser.EduDexParser;
 import seedu.edudex.logic.parser.exceptions.ParseException;
+import seedu.edudex.model.EduDexSnapshot;
 import seedu.edudex.model.Model;
 import seedu.edudex.model.ReadOnlyEduDex;
 import seedu.edudex.model.person.Person;
@@ -28,38 +37,164 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** How often the command statistics are logged, while commands are being executed. */
+    public static final Duration STATS_LOG_INTERVAL = Duration.ofMinutes(10);
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final EduDexParser eduDexParser;
+    private final SaveMetrics saveMetrics = new SaveMetrics();
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+
+    /** Lets only one command execute at a time. Queries read snapshots of the model, so they need no lock. */
+    private final Lock commandLock = new ReentrantLock();
+
+    /** Value of {@code System.nanoTime()} when the command statistics were last logged. */
+    private long lastStatsLogTime = System.nanoTime();
+
+    /** Version of the EduDex when it was last saved, or empty if it has not been saved yet. */
+    private OptionalLong savedVersion = OptionalLong.empty();
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose EduDex is saved by the
+     * first command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, false);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}. If {@code isEduDexSaved},
+     * the EduDex of {@code model} is already in {@code storage}, as when it was loaded from there, so it is only saved
+     * once it changes.
+     */
+    public LogicManager(Model model, Storage storage, boolean isEduDexSaved) {
         this.model = model;
         this.storage = storage;
-        eduDexParser = new EduDexParser();
+        if (isEduDexSaved) {
+            savedVersion = OptionalLong.of(model.getEduDexVersion());
+        }
+        // stats reports on the commands of this LogicManager, so it is not one of the built-in commands
+        eduDexParser = new EduDexParser(EduDexParser.createDefaultRegistry()
+                .register(StatsCommand.COMMAND_WORD, arguments -> new StatsCommand(commandMetrics, saveMetrics)));
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = eduDexParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        commandLock.lock();
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        boolean isSuccessful = false;
+        long startBytes = CommandMetrics.getCurrentThreadAllocatedBytes();
+        long startTime = System.nanoTime();
+        long parsedTime = CommandMetrics.NOT_MEASURED;
+        long executedTime = CommandMetrics.NOT_MEASURED;
+        String commandWord = null;
+        try {
+            EduDexParser.CommandInput commandInput = eduDexParser.resolveCommand(commandText);
+            commandWord = commandInput.getCommandWord();
+            Command command = commandInput.parse();
+            parsedTime = System.nanoTime();
+            CommandResult commandResult = command.execute(model);
+            executedTime = System.nanoTime();
+            saveIfChanged();
+            isSuccessful = true;
+
+            return commandResult;
+        } finally {
+            event.end();
+            if (commandWord != null) {
+                recordMetrics(commandWord, startBytes, startTime, parsedTime, executedTime);
+            }
+            commitCommandEvent(event, commandWord, isSuccessful);
+            commandLock.unlock();
+        }
+    }
+
+    /**
+     * Commits {@code event} for the command with {@code commandWord}, if Java Flight Recorder is recording it.
+     */
+    private void commitCommandEvent(CommandEvent event, String commandWord, boolean isSuccessful) {
+        if (event.shouldCommit()) {
+            event.set(commandWord, isSuccessful, model.getEduDex());
+            event.commit();
+        }
+    }
+
+    /**
+     * Records the durations of the phases of a command that started at {@code startTime}, and the bytes it allocated
+     * since {@code startBytes}. The phase that was running when the command ended, normally or by failing, is
+     * recorded up to now, and the phases after it are not recorded. Logs the statistics of all commands if they were
+     * last logged more than {@link #STATS_LOG_INTERVAL} ago.
+     */
+    private void recordMetrics(String commandWord, long startBytes, long startTime, long parsedTime,
+            long executedTime) {
+        long endTime = System.nanoTime();
+        long endBytes = CommandMetrics.getCurrentThreadAllocatedBytes();
+        long notMeasured = CommandMetrics.NOT_MEASURED;
+        long parseNanos = (parsedTime == notMeasured ? endTime : parsedTime) - startTime;
+        long executeNanos = parsedTime == notMeasured ? notMeasured
+                : (executedTime == notMeasured ? endTime : executedTime) - parsedTime;
+        long saveNanos = executedTime == notMeasured ? notMeasured : endTime - executedTime;
+        long allocatedBytes = startBytes == notMeasured ? notMeasured : endBytes - startBytes;
+        commandMetrics.record(commandWord, parseNanos, executeNanos, saveNanos, allocatedBytes);
+
+        if (endTime - lastStatsLogTime >= STATS_LOG_INTERVAL.toNanos()) {
+            logger.info("Command statistics:\n" + commandMetrics.toSummary() + "\n" + saveMetrics.toSummary());
+            lastStatsLogTime = endTime;
+        }
+    }
+
+    @Override
+    public <T> T queryEduDex(Function<? super EduDexSnapshot, T> query) {
+        requireNonNull(query);
+        return query.apply(model.getEduDexSnapshot());
+    }
+
+    /**
+     * Saves the EduDex to storage, unless it has not changed since it was last saved.
+     * Reports the failure of an earlier save that completed in the background, even if the EduDex is unchanged.
+     */
+    private void saveIfChanged() throws CommandException {
+        long version = model.getEduDexVersion();
+        boolean isUnchanged = savedVersion.isPresent() && savedVersion.getAsLong() == version;
 
+        long startTime = System.nanoTime();
         try {
-            storage.saveEduDex(model.getEduDex());
+            if (isUnchanged) {
+                storage.checkSaveFailure();
+            } else {
+                storage.saveEduDex(model.getEduDex());
+            }
         } catch (AccessDeniedException e) {
+            savedVersion = OptionalLong.empty();
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
+            savedVersion = OptionalLong.empty();
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
 
-        return commandResult;
+        if (isUnchanged) {
+            logger.fine("EduDex unchanged since last save, skipping save");
+            saveMetrics.recordSkip();
+        } else {
+            saveMetrics.recordSave(System.nanoTime() - startTime);
+            savedVersion = OptionalLong.of(version);
+        }
+    }
+
+    @Override
+    public SaveMetrics getSaveMetrics() {
+        return saveMetrics;
+    }
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
     }
 
     @Override
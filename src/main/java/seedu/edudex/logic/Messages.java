@@ -1,10 +1,12 @@
 package seedu.edudex.logic;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.edudex.logic.parser.Prefix;
+import seedu.edudex.model.person.LessonConflict;
 import seedu.edudex.model.person.Person;
 import seedu.edudex.model.subject.Subject;
 import seedu.edudex.model.tag.Tag;
@@ -15,6 +17,7 @@ import seedu.edudex.model.tag.Tag;
 public class Messages {
 
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
+    public static final String MESSAGE_AMBIGUOUS_COMMAND = "Ambiguous command %1$s, did you mean: %2$s?";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_INVALID_SUBJECT_DISPLAYED_INDEX = "The subject index provided is invalid";
@@ -70,4 +73,14 @@ public class Messages {
     public static String format(Subject subject) {
         return subject.toString();
     }
+
+    /**
+     * Formats the names of the persons holding the {@code conflicts} for display to the user.
+     */
+    public static String formatConflictingPersons(List<LessonConflict> conflicts) {
+        return conflicts.stream()
+                .map(conflict -> conflict.getPerson().getName().toString())
+                .distinct()
+                .collect(Collectors.joining(", "));
+    }
 }
@@ -0,0 +1,64 @@
+package seedu.edudex.logic;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.edudex.commons.util.ToStringBuilder;
+
+/**
+ * Counts how often executing a command saved EduDex data to storage, and how often saving was skipped because the
+ * data had not changed.
+ */
+public class SaveMetrics {
+
+    public static final String MESSAGE_SUMMARY = "Saves: %1$d performed, %2$d skipped, %3$.2f ms spent saving";
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final AtomicLong savedCount = new AtomicLong();
+    private final AtomicLong skippedCount = new AtomicLong();
+    private final AtomicLong totalSaveNanos = new AtomicLong();
+
+    /**
+     * Records a save to storage that took {@code elapsedNanos} nanoseconds.
+     */
+    public void recordSave(long elapsedNanos) {
+        savedCount.incrementAndGet();
+        totalSaveNanos.addAndGet(elapsedNanos);
+    }
+
+    /**
+     * Records a save to storage that was skipped.
+     */
+    public void recordSkip() {
+        skippedCount.incrementAndGet();
+    }
+
+    public long getSavedCount() {
+        return savedCount.get();
+    }
+
+    public long getSkippedCount() {
+        return skippedCount.get();
+    }
+
+    public long getTotalSaveNanos() {
+        return totalSaveNanos.get();
+    }
+
+    /**
+     * Returns a one-line summary of the saves performed and skipped, and the time spent saving.
+     */
+    public String toSummary() {
+        return String.format(MESSAGE_SUMMARY, getSavedCount(), getSkippedCount(),
+                getTotalSaveNanos() / NANOS_PER_MILLI);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("saved", getSavedCount())
+                .add("skipped", getSkippedCount())
+                .add("totalSaveNanos", getTotalSaveNanos())
+                .toString();
+    }
+}
@@ -15,6 +15,7 @@ import seedu.edudex.logic.Messages;
 import seedu.edudex.logic.commands.exceptions.CommandException;
 import seedu.edudex.model.Model;
 import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.LessonConflict;
 import seedu.edudex.model.person.Person;
 import seedu.edudex.model.subject.Subject;
 
@@ -88,10 +89,10 @@ public class AddLessonCommand extends Command {
         }
 
         // 2) Check for conflicts with all other students' lessons
-        Person personWithLessonConflict = model.findPersonWithLessonConflict(lessonToAdd, originalStudent);
-        if (personWithLessonConflict != null) {
+        List<LessonConflict> conflicts = model.findLessonConflicts(lessonToAdd, originalStudent);
+        if (!conflicts.isEmpty()) {
             throw new CommandException(MESSAGE_CONFLICTING_LESSON + "\nConflicts with lesson of: "
-                    + personWithLessonConflict.getName());
+                    + Messages.formatConflictingPersons(conflicts));
         }
 
         updatedStudent.addLesson(lessonToAdd);
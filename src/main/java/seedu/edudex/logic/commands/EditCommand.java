@@ -32,6 +32,7 @@ import seedu.edudex.model.Model;
 import seedu.edudex.model.person.Address;
 import seedu.edudex.model.person.Day;
 import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.LessonConflict;
 import seedu.edudex.model.person.Name;
 import seedu.edudex.model.person.Person;
 import seedu.edudex.model.person.Phone;
@@ -168,10 +169,10 @@ public class EditCommand extends Command {
         }
 
         // Check for conflicts with all other persons' lessons
-        Person personWithLessonConflict = model.findPersonWithLessonConflict(editedLesson, personToEdit);
-        if (personWithLessonConflict != null) {
+        List<LessonConflict> conflicts = model.findLessonConflicts(editedLesson, personToEdit);
+        if (!conflicts.isEmpty()) {
             throw new IllegalArgumentException(MESSAGE_CONFLICTING_LESSON + "\nConflicts with lesson of: "
-                    + personWithLessonConflict.getName());
+                    + Messages.formatConflictingPersons(conflicts));
         }
 
         // Create a new list of lessons with the edited lesson
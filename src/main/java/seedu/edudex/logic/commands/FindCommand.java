@@ -83,16 +83,17 @@ public class FindCommand extends Command {
 
         switch (searchType) {
         case DAY:
-            model.updateFilteredPersonList(dayPredicate);
+            model.updateFilteredPersonList(dayPredicate, model.findPersonsWithLessonOn(dayPredicate.getDay()));
             break;
         case SUBJECT:
-            model.updateFilteredPersonList(subjectPredicate);
+            model.updateFilteredPersonList(subjectPredicate,
+                    model.findPersonsWithLessonInSubject(subjectPredicate.getSubjectKeyword()));
             model.sortFilteredPersonList(new SubjectComparator());
             model.sortLessonsForEachPersonBySubject(subjectPredicate.getSubjectKeyword());
             break;
         case NAME:
         default:
-            model.updateFilteredPersonList(namePredicate);
+            model.updateFilteredPersonList(namePredicate, model.findPersonsByNameKeywords(namePredicate.getKeywords()));
             break;
         }
 
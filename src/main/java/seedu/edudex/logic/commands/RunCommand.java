@@ -0,0 +1,134 @@
+package seedu.edudex.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.edudex.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.edudex.commons.util.ToStringBuilder;
+import seedu.edudex.logic.commands.exceptions.CommandException;
+import seedu.edudex.logic.parser.CommandRegistry;
+import seedu.edudex.logic.parser.EduDexParser;
+import seedu.edudex.logic.parser.exceptions.ParseException;
+import seedu.edudex.model.EduDex;
+import seedu.edudex.model.Model;
+
+/**
+ * Runs the commands in a script file, one per line, as a single command.
+ *
+ * Either all commands of the script take effect or none do: if any line fails, the changes made by the lines before it
+ * are rolled back. As the script is one command, EduDex is saved once after the whole script has run. The lines are
+ * parsed with the same commands as the command that runs the script.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    /** Lines of a script starting with this are ignored. */
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a file, one per line. If any command fails, none of the changes are kept.\n"
+            + "Empty lines and lines starting with " + COMMENT_MARKER + " are ignored.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/lessons.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_LINE_RESULT = "Line %1$d: %2$s";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d failed: %2$s\n"
+            + "No changes were made, the %3$d commands before it were rolled back.";
+    public static final String MESSAGE_CANNOT_READ = "Could not read script %1$s: %2$s";
+    public static final String MESSAGE_NESTED_RUN = "A script cannot run other scripts";
+
+    private final Path scriptPath;
+    private final CommandRegistry registry;
+
+    /**
+     * Creates a {@code RunCommand} to run the script at {@code scriptPath}, with the commands in {@code registry}.
+     */
+    public RunCommand(Path scriptPath, CommandRegistry registry) {
+        requireNonNull(scriptPath);
+        requireNonNull(registry);
+        this.scriptPath = scriptPath;
+        this.registry = registry;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptPath, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, scriptPath, ioe), ioe);
+        }
+
+        EduDex originalEduDex = new EduDex(model.getEduDex());
+        long originalVersion = model.getEduDexVersion();
+        EduDexParser parser = new EduDexParser(registry);
+        StringBuilder lineResults = new StringBuilder();
+        int executedCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            try {
+                Command command = parser.parseCommand(line);
+                if (command instanceof RunCommand) {
+                    throw new CommandException(MESSAGE_NESTED_RUN);
+                }
+                CommandResult result = command.execute(model);
+                lineResults.append('\n').append(String.format(MESSAGE_LINE_RESULT, i + 1, result.getFeedbackToUser()));
+                executedCount++;
+            } catch (ParseException | CommandException e) {
+                rollBack(model, originalEduDex, originalVersion);
+                throw new CommandException(String.format(MESSAGE_LINE_FAILED, i + 1, e.getMessage(), executedCount), e);
+            } catch (RuntimeException e) {
+                rollBack(model, originalEduDex, originalVersion);
+                throw e;
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, executedCount, scriptPath) + lineResults);
+    }
+
+    /**
+     * Restores {@code originalEduDex} if the lines run so far changed EduDex since it was at {@code originalVersion}.
+     * As the lines may also have filtered or sorted the person list, all persons are listed in their original order.
+     */
+    private static void rollBack(Model model, EduDex originalEduDex, long originalVersion) {
+        if (model.getEduDexVersion() != originalVersion) {
+            model.setEduDex(originalEduDex);
+        }
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.sortFilteredPersonList(null);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptPath.equals(otherRunCommand.scriptPath)
+                && registry == otherRunCommand.registry;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .toString();
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.edudex.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.edudex.commons.util.ToStringBuilder;
+import seedu.edudex.logic.CommandMetrics;
+import seedu.edudex.logic.SaveMetrics;
+import seedu.edudex.model.Model;
+
+/**
+ * Shows how long each command executed so far took, how much memory it allocated, and how often the data was saved.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how long each command took to parse, execute and save, how much memory it allocated,\n"
+            + "and how many saves were performed or skipped as the data was unchanged.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Command statistics:\n%1$s\n%2$s";
+
+    private final CommandMetrics commandMetrics;
+    private final SaveMetrics saveMetrics;
+
+    /**
+     * Creates a {@code StatsCommand} to show the statistics in {@code commandMetrics} and {@code saveMetrics}.
+     */
+    public StatsCommand(CommandMetrics commandMetrics, SaveMetrics saveMetrics) {
+        requireNonNull(commandMetrics);
+        requireNonNull(saveMetrics);
+        this.commandMetrics = commandMetrics;
+        this.saveMetrics = saveMetrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandMetrics.toSummary(),
+                saveMetrics.toSummary()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return commandMetrics == otherStatsCommand.commandMetrics
+                && saveMetrics == otherStatsCommand.saveMetrics;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandMetrics", commandMetrics)
+                .add("saveMetrics", saveMetrics)
+                .toString();
+    }
+}
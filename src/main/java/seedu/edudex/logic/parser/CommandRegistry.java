@@ -0,0 +1,121 @@
+package seedu.edudex.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.edudex.commons.util.AppUtil.checkArgument;
+import static seedu.edudex.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
+import static seedu.edudex.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import seedu.edudex.logic.commands.Command;
+import seedu.edudex.logic.parser.exceptions.ParseException;
+
+/**
+ * Maps command words to the parsers of their commands.
+ *
+ * Each command is registered once with a single parser instance, which is reused for every input of that command, so
+ * parsers must not keep state between calls. Besides its command word, a command can be looked up by any of its
+ * aliases, or by an abbreviation of its command word that no other command word starts with.
+ */
+public class CommandRegistry {
+
+    public static final String MESSAGE_DUPLICATE_COMMAND_WORD = "Command word %1$s is already registered";
+    public static final String MESSAGE_UNREGISTERED_COMMAND_WORD = "Command word %1$s is not registered";
+
+    /** Parsers by command word. */
+    private final Map<String, Parser<? extends Command>> parsersByWord = new HashMap<>();
+
+    /** Command words by alias. */
+    private final Map<String, String> commandWordsByAlias = new HashMap<>();
+
+    /** The command words that may be abbreviated, kept sorted so that those sharing a prefix are adjacent. */
+    private final TreeSet<String> abbreviableWords = new TreeSet<>();
+
+    /**
+     * Registers {@code parser} for the command with {@code commandWord}, which may be abbreviated.
+     */
+    public CommandRegistry register(String commandWord, Parser<? extends Command> parser) {
+        return register(commandWord, parser, true);
+    }
+
+    /**
+     * Registers {@code parser} for the command with {@code commandWord}. Commands that are not
+     * {@code isAbbreviable} are only recognised by their full command word or aliases.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is already registered.
+     */
+    public CommandRegistry register(String commandWord, Parser<? extends Command> parser, boolean isAbbreviable) {
+        requireNonNull(parser);
+        checkUnregistered(commandWord);
+        parsersByWord.put(commandWord, parser);
+        if (isAbbreviable) {
+            abbreviableWords.add(commandWord);
+        }
+        return this;
+    }
+
+    /**
+     * Registers {@code alias} as another word for the command with {@code commandWord}.
+     * Aliases are not abbreviated.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is not registered, or {@code alias} already is.
+     */
+    public CommandRegistry registerAlias(String alias, String commandWord) {
+        requireNonNull(commandWord);
+        checkArgument(parsersByWord.containsKey(commandWord),
+                String.format(MESSAGE_UNREGISTERED_COMMAND_WORD, commandWord));
+        checkUnregistered(alias);
+        commandWordsByAlias.put(alias, commandWord);
+        return this;
+    }
+
+    /**
+     * Returns the parser of the command that {@code word} names, either as its command word, as one of its aliases,
+     * or as an abbreviation of its command word.
+     *
+     * @throws ParseException if no command is named by {@code word}, or more than one command word starts with it.
+     */
+    public Parser<? extends Command> getParser(String word) throws ParseException {
+        return parsersByWord.get(getCommandWord(word));
+    }
+
+    /**
+     * Returns the command word of the command that {@code word} names, as {@link #getParser(String)} resolves it.
+     *
+     * @throws ParseException if no command is named by {@code word}, or more than one command word starts with it.
+     */
+    public String getCommandWord(String word) throws ParseException {
+        requireNonNull(word);
+        if (parsersByWord.containsKey(word)) {
+            return word;
+        }
+        if (commandWordsByAlias.containsKey(word)) {
+            return commandWordsByAlias.get(word);
+        }
+
+        List<String> candidates = new ArrayList<>();
+        for (String commandWord : abbreviableWords.tailSet(word, false)) {
+            if (!commandWord.startsWith(word)) {
+                break;
+            }
+            candidates.add(commandWord);
+        }
+        if (candidates.isEmpty()) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        if (candidates.size() > 1) {
+            throw new ParseException(String.format(MESSAGE_AMBIGUOUS_COMMAND, word, String.join(", ", candidates)));
+        }
+        return candidates.get(0);
+    }
+
+    private void checkUnregistered(String word) {
+        requireNonNull(word);
+        checkArgument(!parsersByWord.containsKey(word) && !commandWordsByAlias.containsKey(word),
+                String.format(MESSAGE_DUPLICATE_COMMAND_WORD, word));
+    }
+}
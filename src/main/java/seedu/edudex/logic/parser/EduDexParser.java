@@ -1,7 +1,7 @@
 package seedu.edudex.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.edudex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.edudex.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
@@ -21,6 +21,7 @@ import seedu.edudex.logic.commands.ExitCommand;
 import seedu.edudex.logic.commands.FindCommand;
 import seedu.edudex.logic.commands.HelpCommand;
 import seedu.edudex.logic.commands.ListCommand;
+import seedu.edudex.logic.commands.RunCommand;
 import seedu.edudex.logic.parser.exceptions.ParseException;
 
 /**
@@ -28,12 +29,55 @@ import seedu.edudex.logic.parser.exceptions.ParseException;
  */
 public class EduDexParser {
 
+    public static final String ALIAS_LIST = "ls";
+    public static final String ALIAS_EXIT = "quit";
+
     /**
      * Used for initial separation of command word and args.
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(EduDexParser.class);
 
+    private final CommandRegistry registry;
+
+    /**
+     * Creates an {@code EduDexParser} that recognises the built-in commands of EduDex.
+     */
+    public EduDexParser() {
+        this(createDefaultRegistry());
+    }
+
+    /**
+     * Creates an {@code EduDexParser} that recognises the commands in {@code registry}.
+     */
+    public EduDexParser(CommandRegistry registry) {
+        this.registry = requireNonNull(registry);
+    }
+
+    /**
+     * Returns a new registry holding the built-in commands of EduDex, to which further commands can be added.
+     */
+    public static CommandRegistry createDefaultRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+        return registry
+                .register(AddCommand.COMMAND_WORD, new AddCommandParser())
+                .register(AddSubjectCommand.COMMAND_WORD, new AddSubjectCommandParser())
+                .register(EditCommand.COMMAND_WORD, new EditCommandParser())
+                // deleting is not undoable, so destructive commands must be typed in full
+                .register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser(), false)
+                .register(DeleteSubjectCommand.COMMAND_WORD, new DeleteSubjectCommandParser(), false)
+                .register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand(), false)
+                .register(FindCommand.COMMAND_WORD, new FindCommandParser())
+                .register(ListCommand.COMMAND_WORD, arguments -> new ListCommand())
+                .register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand())
+                .register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand())
+                .register(AddLessonCommand.COMMAND_WORD, new AddLessonCommandParser())
+                .register(DeleteLessonCommand.COMMAND_WORD, new DeleteLessonCommandParser(), false)
+                .register(RunCommand.COMMAND_WORD, new RunCommandParser(registry))
+                .registerAlias(ALIAS_LIST, ListCommand.COMMAND_WORD)
+                .registerAlias(ALIAS_EXIT, ExitCommand.COMMAND_WORD);
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -42,11 +86,17 @@ public class EduDexParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
-        }
+        return resolveCommand(userInput).parse();
+    }
 
+    /**
+     * Returns the command named in {@code userInput}, with any alias or abbreviation resolved, together with its
+     * arguments, which are not parsed yet.
+     *
+     * @throws ParseException if {@code userInput} does not name a command
+     */
+    public CommandInput resolveCommand(String userInput) throws ParseException {
+        final Matcher matcher = matchCommandFormat(userInput);
         final String commandWord = matcher.group("commandWord");
         final String arguments = matcher.group("arguments");
 
@@ -55,47 +105,52 @@ public class EduDexParser {
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case AddSubjectCommand.COMMAND_WORD:
-            return new AddSubjectCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case DeleteSubjectCommand.COMMAND_WORD:
-            return new DeleteSubjectCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
+        final String resolvedCommandWord;
+        try {
+            resolvedCommandWord = registry.getCommandWord(commandWord);
+        } catch (ParseException pe) {
+            logger.finer("This user input caused a ParseException: " + userInput);
+            throw pe;
+        }
+        return new CommandInput(resolvedCommandWord, registry.getParser(resolvedCommandWord), arguments);
+    }
 
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
+    private static Matcher matchCommandFormat(String userInput) throws ParseException {
+        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        }
+        return matcher;
+    }
 
-        case AddLessonCommand.COMMAND_WORD:
-            return new AddLessonCommandParser().parse(arguments);
+    /**
+     * A command named in user input, whose arguments are yet to be parsed.
+     */
+    public static class CommandInput {
+        private final String commandWord;
+        private final Parser<? extends Command> parser;
+        private final String arguments;
+
+        private CommandInput(String commandWord, Parser<? extends Command> parser, String arguments) {
+            this.commandWord = commandWord;
+            this.parser = parser;
+            this.arguments = arguments;
+        }
 
-        case DeleteLessonCommand.COMMAND_WORD:
-            return new DeleteLessonCommandParser().parse(arguments);
+        /**
+         * Returns the command word of the command, as registered.
+         */
+        public String getCommandWord() {
+            return commandWord;
+        }
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        /**
+         * Parses the arguments into the command.
+         *
+         * @throws ParseException if the arguments do not conform to the expected format
+         */
+        public Command parse() throws ParseException {
+            return parser.parse(arguments);
         }
     }
 
@@ -0,0 +1,40 @@
+package seedu.edudex.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.edudex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import seedu.edudex.commons.util.FileUtil;
+import seedu.edudex.logic.commands.RunCommand;
+import seedu.edudex.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    private final CommandRegistry registry;
+
+    /**
+     * Creates a {@code RunCommandParser} for scripts of the commands in {@code registry}, including those registered
+     * later.
+     */
+    public RunCommandParser(CommandRegistry registry) {
+        this.registry = requireNonNull(registry);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        return new RunCommand(Paths.get(trimmedArgs), registry);
+    }
+
+}
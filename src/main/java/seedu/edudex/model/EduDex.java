@@ -3,10 +3,13 @@ package seedu.edudex.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.edudex.commons.util.ToStringBuilder;
+import seedu.edudex.model.person.Day;
 import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.LessonConflict;
 import seedu.edudex.model.person.Person;
 import seedu.edudex.model.person.UniquePersonList;
 import seedu.edudex.model.subject.UniqueSubjectList;
@@ -32,6 +35,9 @@ public class EduDex implements ReadOnlyEduDex {
         subjects = new UniqueSubjectList();
     }
 
+    /** Changes whenever the data of this EduDex changes. */
+    private long version;
+
     public EduDex() {}
 
     /**
@@ -50,6 +56,7 @@ public class EduDex implements ReadOnlyEduDex {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
     /**
@@ -58,6 +65,7 @@ public class EduDex implements ReadOnlyEduDex {
      */
     public void setSubjects(List<seedu.edudex.model.subject.Subject> subjects) {
         this.subjects.setSubjects(subjects);
+        version++;
     }
 
     /**
@@ -86,6 +94,7 @@ public class EduDex implements ReadOnlyEduDex {
      */
     public void addSubject(seedu.edudex.model.subject.Subject s) {
         subjects.add(s);
+        version++;
     }
 
     /**
@@ -98,6 +107,7 @@ public class EduDex implements ReadOnlyEduDex {
         requireNonNull(editedSubject);
 
         subjects.setSubject(target, editedSubject);
+        version++;
     }
 
     /**
@@ -106,6 +116,7 @@ public class EduDex implements ReadOnlyEduDex {
      */
     public void removeSubject(seedu.edudex.model.subject.Subject key) {
         subjects.remove(key);
+        version++;
     }
 
 
@@ -125,6 +136,7 @@ public class EduDex implements ReadOnlyEduDex {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
     }
 
     /**
@@ -136,6 +148,7 @@ public class EduDex implements ReadOnlyEduDex {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version++;
     }
 
     /**
@@ -144,10 +157,19 @@ public class EduDex implements ReadOnlyEduDex {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version++;
     }
 
     //// util methods
 
+    /**
+     * Returns the modification version of this EduDex, which changes whenever a person or subject is added, replaced
+     * or removed. Equal versions read from the same EduDex mean that its data has not changed in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -185,6 +207,47 @@ public class EduDex implements ReadOnlyEduDex {
         return persons.hashCode();
     }
 
+    /**
+     * Returns the persons in EduDex with a name word starting with any of the given keywords, ignoring case.
+     */
+    public Set<Person> findPersonsByNameKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return persons.findPersonsByNameKeywords(keywords);
+    }
+
+    /**
+     * Returns the persons in EduDex having at least one lesson on the given day.
+     */
+    public Set<Person> findPersonsWithLessonOn(Day day) {
+        requireNonNull(day);
+        return persons.findPersonsWithLessonOn(day);
+    }
+
+    /**
+     * Returns the persons in EduDex having at least one lesson in the given subject, ignoring case.
+     */
+    public Set<Person> findPersonsWithLessonInSubject(String subjectName) {
+        requireNonNull(subjectName);
+        return persons.findPersonsWithLessonInSubject(subjectName);
+    }
+
+    /**
+     * Returns every lesson in EduDex that conflicts with the given lesson, together with the person holding it.
+     * Lessons of the specified person are excluded from the search, and a lesson identical to the given lesson
+     * is not a conflict, since several students can attend the same lesson.
+     */
+    public List<LessonConflict> findLessonConflicts(Lesson lesson, Person personToExclude) {
+        requireNonNull(lesson);
+        LessonConflictSearchEvent event = new LessonConflictSearchEvent();
+        event.begin();
+        List<LessonConflict> conflicts = persons.findLessonConflicts(lesson, personToExclude);
+        if (event.shouldCommit()) {
+            event.set(getPersonList().size(), conflicts.size());
+            event.commit();
+        }
+        return conflicts;
+    }
+
     /**
      * Finds and returns a person who has a lesson that conflicts with the given lesson.
      * Excludes the specified person from the search.
@@ -193,21 +256,7 @@ public class EduDex implements ReadOnlyEduDex {
      * @return Person with conflicting lesson, or null if none found.
      */
     public Person findPersonWithLessonConflict(Lesson lesson, Person personToExclude) {
-        for (Person person : persons) {
-            if (person.equals(personToExclude)) {
-                continue; // skip checking against the specified editing person
-            }
-            // null index since not editing existing lesson
-            Lesson conflictingLesson = person.hasLessonConflict(lesson, null);
-
-            if (conflictingLesson == null) {
-                continue; // no conflict for this person
-            }
-            if (conflictingLesson.equals(lesson)) {
-                continue; // another person can have the same lesson - same day,time - not a conflict
-            }
-            return person; // found a person with a conflicting lesson
-        }
-        return null; // no conflicts found
+        List<LessonConflict> conflicts = findLessonConflicts(lesson, personToExclude);
+        return conflicts.isEmpty() ? null : conflicts.get(0).getPerson();
     }
 }
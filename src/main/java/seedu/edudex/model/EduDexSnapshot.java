@@ -0,0 +1,114 @@
+package seedu.edudex.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.edudex.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.edudex.model.person.Day;
+import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.UniquePersonList;
+import seedu.edudex.model.subject.Subject;
+
+/**
+ * A copy of the persons and subjects lists of an EduDex, which stays unchanged while the EduDex is modified.
+ * Persons and subjects are replaced rather than modified in EduDex, so their references can be shared.
+ *
+ * Once created, a snapshot is never modified, so it can be read from any number of threads at once. The indexes for
+ * finding persons are built on the first search, and reused by the later searches of the same snapshot.
+ */
+public class EduDexSnapshot implements ReadOnlyEduDex {
+    private final ObservableList<Person> persons;
+    private final ObservableList<Subject> subjects;
+
+    private volatile PersonIndexes personIndexes;
+
+    /**
+     * Creates a snapshot of the current contents of {@code eduDex}.
+     */
+    public EduDexSnapshot(ReadOnlyEduDex eduDex) {
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(eduDex.getPersonList()));
+        subjects = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(eduDex.getSubjectList()));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Subject> getSubjectList() {
+        return subjects;
+    }
+
+    /**
+     * Returns the persons of this snapshot with a name word starting with any of {@code keywords}, ignoring case,
+     * as {@link UniquePersonList#findPersonsByNameKeywords(List)} does.
+     */
+    public Set<Person> findPersonsByNameKeywords(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return getPersonIndexes().persons.findPersonsByNameKeywords(keywords);
+    }
+
+    /**
+     * Returns the persons of this snapshot having at least one lesson on {@code day}.
+     */
+    public Set<Person> findPersonsWithLessonOn(Day day) {
+        requireNonNull(day);
+        return getPersonIndexes().persons.findPersonsWithLessonOn(day);
+    }
+
+    /**
+     * Returns the persons of this snapshot having at least one lesson in the subject named {@code subjectName},
+     * ignoring case.
+     */
+    public Set<Person> findPersonsWithLessonInSubject(String subjectName) {
+        requireNonNull(subjectName);
+        return getPersonIndexes().persons.findPersonsWithLessonInSubject(subjectName);
+    }
+
+    /**
+     * Returns the zero-based position of {@code person} in the person list of this snapshot, or -1 if it is not the
+     * same object as any person in it.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        return getPersonIndexes().positions.getOrDefault(person, -1);
+    }
+
+    private PersonIndexes getPersonIndexes() {
+        PersonIndexes indexes = personIndexes;
+        if (indexes == null) {
+            synchronized (this) {
+                indexes = personIndexes;
+                if (indexes == null) {
+                    indexes = new PersonIndexes(persons);
+                    personIndexes = indexes;
+                }
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * The indexes of the persons of a snapshot, which are never modified once built.
+     */
+    private static class PersonIndexes {
+        private final UniquePersonList persons = new UniquePersonList();
+        private final Map<Person, Integer> positions = new IdentityHashMap<>();
+
+        PersonIndexes(List<Person> personList) {
+            persons.setPersons(personList);
+            for (int i = 0; i < personList.size(); i++) {
+                positions.put(personList.get(i), i);
+            }
+        }
+    }
+}
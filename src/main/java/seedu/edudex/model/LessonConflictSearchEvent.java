@@ -0,0 +1,36 @@
+package seedu.edudex.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for searching EduDex for the lessons that conflict with a lesson.
+ */
+@Name("seedu.edudex.LessonConflictSearch")
+@Label("Lesson Conflict Search")
+@Category({"EduDex", "Model"})
+@Description("Search of the lessons of all persons for those that conflict with a lesson")
+@StackTrace(false)
+class LessonConflictSearchEvent extends Event {
+
+    @Label("Persons")
+    @Description("Number of persons searched")
+    private int personCount;
+
+    @Label("Conflicts")
+    @Description("Number of conflicting lessons found")
+    private int conflictCount;
+
+    /**
+     * Sets the fields of this event for a search of {@code personCount} persons that found {@code conflictCount}
+     * conflicting lessons.
+     */
+    void set(int personCount, int conflictCount) {
+        this.personCount = personCount;
+        this.conflictCount = conflictCount;
+    }
+}
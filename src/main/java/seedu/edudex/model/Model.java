@@ -3,11 +3,14 @@ package seedu.edudex.model;
 import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.edudex.commons.core.GuiSettings;
+import seedu.edudex.model.person.Day;
 import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.LessonConflict;
 import seedu.edudex.model.person.Person;
 import seedu.edudex.model.subject.Subject;
 
@@ -59,6 +62,24 @@ public interface Model {
     /** Returns the EduDex */
     ReadOnlyEduDex getEduDex();
 
+    /**
+     * Returns the modification version of the EduDex, which changes whenever its data changes.
+     */
+    long getEduDexVersion();
+
+    /**
+     * Returns an unchanging copy of the EduDex as of its latest change.
+     * Unlike the other methods of {@code Model}, this can be called from any thread, even while the model is changed.
+     * The copy is taken by the first call after a change, which waits for any change being made to the EduDex.
+     */
+    EduDexSnapshot getEduDexSnapshot();
+
+    /**
+     * Returns the persons that satisfy {@code predicate} in the latest snapshot of the EduDex, in list order.
+     * Like {@link #getEduDexSnapshot()}, this can be called from any thread. The filtered person list is not changed.
+     */
+    List<Person> findPersons(Predicate<? super Person> predicate);
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in EduDex.
      */
@@ -119,12 +140,21 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, where
+     * {@code matchingPersons} holds exactly the persons currently in EduDex that satisfy it, as found through an index.
+     * Persons in EduDex are filtered by membership in {@code matchingPersons} instead of being tested one by one;
+     * persons added or replaced later are tested against {@code predicate}.
+     * @throws NullPointerException if any argument is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Set<Person> matchingPersons);
+
     /**
      * Sorts the currently filtered person list according to the given {@link Comparator}.
      * This allows commands to customize the display order of persons dynamically.
      *
-     * @param comparator Comparator used to determine the order of persons in the filtered list.
-     *                   Must not be {@code null}.
+     * @param comparator Comparator used to determine the order of persons in the filtered list,
+     *                   or {@code null} to list them in the order of EduDex.
      */
     void sortFilteredPersonList(Comparator<Person> comparator);
 
@@ -136,12 +166,34 @@ public interface Model {
      */
     ObservableList<Person> getSortedPersonList();
 
-    void sortLessonsForEachPerson();
-
     List<Person> sortLessonsForEachPersonBySubject(String subjectKeyword);
 
     void updateSubjectList(Predicate<Subject> predicate);
 
     Person findPersonWithLessonConflict(Lesson editedLesson, Person personToEdit);
 
+    /**
+     * Returns every existing lesson that conflicts with {@code lesson}, paired with the person who has it.
+     * Lessons of {@code personToExclude} are not considered.
+     */
+    List<LessonConflict> findLessonConflicts(Lesson lesson, Person personToExclude);
+
+    /**
+     * Returns the persons with a name word starting with any of {@code keywords}, ignoring case.
+     * The returned set compares persons by reference.
+     */
+    Set<Person> findPersonsByNameKeywords(List<String> keywords);
+
+    /**
+     * Returns the persons having at least one lesson on {@code day}.
+     * The returned set compares persons by reference.
+     */
+    Set<Person> findPersonsWithLessonOn(Day day);
+
+    /**
+     * Returns the persons having at least one lesson in the subject named {@code subjectName}, ignoring case.
+     * The returned set compares persons by reference.
+     */
+    Set<Person> findPersonsWithLessonInSubject(String subjectName);
+
 }
@@ -6,15 +6,21 @@ import static seedu.edudex.commons.util.CollectionUtil.requireAllNonNull;
 import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.edudex.commons.core.GuiSettings;
 import seedu.edudex.commons.core.LogsCenter;
+import seedu.edudex.model.person.Day;
 import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.LessonConflict;
 import seedu.edudex.model.person.Person;
 import seedu.edudex.model.subject.Subject;
 
@@ -30,6 +36,16 @@ public class ModelManager implements Model {
     private final SortedList<Person> sortedPersons;
     private final FilteredList<Subject> subjects;
 
+    /** Keeps snapshots from being taken while the EduDex is being changed. */
+    private final Lock eduDexLock = new ReentrantLock();
+
+    /**
+     * The EduDex as of its latest change, read by other threads while this thread may be changing the EduDex.
+     * Taken when first read, and discarded whenever the version of the EduDex changes, so that changes do not pay for
+     * copying the EduDex. Null if it has not been taken since the latest change.
+     */
+    private volatile EduDexSnapshot eduDexSnapshot;
+
     /**
      * Initializes a ModelManager with the given eduDex and userPrefs.
      */
@@ -89,7 +105,7 @@ public class ModelManager implements Model {
 
     @Override
     public void setEduDex(ReadOnlyEduDex eduDex) {
-        this.eduDex.resetData(eduDex);
+        changeEduDex(() -> this.eduDex.resetData(eduDex));
     }
 
     @Override
@@ -97,6 +113,53 @@ public class ModelManager implements Model {
         return eduDex;
     }
 
+    @Override
+    public long getEduDexVersion() {
+        return eduDex.getVersion();
+    }
+
+    @Override
+    public EduDexSnapshot getEduDexSnapshot() {
+        EduDexSnapshot snapshot = eduDexSnapshot;
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        eduDexLock.lock();
+        try {
+            if (eduDexSnapshot == null) {
+                eduDexSnapshot = new EduDexSnapshot(eduDex);
+            }
+            return eduDexSnapshot;
+        } finally {
+            eduDexLock.unlock();
+        }
+    }
+
+    /**
+     * Applies {@code change} to the EduDex while no snapshot of it is being taken, and discards the latest snapshot if
+     * the EduDex changed.
+     */
+    private void changeEduDex(Runnable change) {
+        eduDexLock.lock();
+        long version = eduDex.getVersion();
+        try {
+            change.run();
+        } finally {
+            // a change that failed part way may still have changed the EduDex
+            if (eduDex.getVersion() != version) {
+                eduDexSnapshot = null;
+            }
+            eduDexLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Person> findPersons(Predicate<? super Person> predicate) {
+        requireNonNull(predicate);
+        return getEduDexSnapshot().getPersonList().stream().filter(predicate).collect(Collectors.toList());
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -105,12 +168,12 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
-        eduDex.removePerson(target);
+        changeEduDex(() -> eduDex.removePerson(target));
     }
 
     @Override
     public void addPerson(Person person) {
-        eduDex.addPerson(person);
+        changeEduDex(() -> eduDex.addPerson(person));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -118,7 +181,7 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        eduDex.setPerson(target, editedPerson);
+        changeEduDex(() -> eduDex.setPerson(target, editedPerson));
     }
 
     @Override
@@ -129,19 +192,19 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteSubject(Subject target) {
-        eduDex.removeSubject(target);
+        changeEduDex(() -> eduDex.removeSubject(target));
     }
 
     @Override
     public void addSubject(Subject subject) {
-        eduDex.addSubject(subject);
+        changeEduDex(() -> eduDex.addSubject(subject));
         updateSubjectList(PREDICATE_SHOW_ALL_SUBJECTS);
     }
 
     @Override
     public void setSubject(Subject target, Subject editedSubject) {
         requireAllNonNull(target, editedSubject);
-        eduDex.setSubject(target, editedSubject);
+        changeEduDex(() -> eduDex.setSubject(target, editedSubject));
     }
 
     //==== Lesson List Accessors =============================================================
@@ -160,6 +223,30 @@ public class ModelManager implements Model {
         return eduDex.findPersonWithLessonConflict(lesson, personToExclude);
     }
 
+    @Override
+    public List<LessonConflict> findLessonConflicts(Lesson lesson, Person personToExclude) {
+        requireAllNonNull(lesson, personToExclude);
+        return eduDex.findLessonConflicts(lesson, personToExclude);
+    }
+
+    @Override
+    public Set<Person> findPersonsByNameKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return eduDex.findPersonsByNameKeywords(keywords);
+    }
+
+    @Override
+    public Set<Person> findPersonsWithLessonOn(Day day) {
+        requireNonNull(day);
+        return eduDex.findPersonsWithLessonOn(day);
+    }
+
+    @Override
+    public Set<Person> findPersonsWithLessonInSubject(String subjectName) {
+        requireNonNull(subjectName);
+        return eduDex.findPersonsWithLessonInSubject(subjectName);
+    }
+
     //=========== Subject List Accessors =============================================================
     @Override
     public ObservableList<Subject> getSubjectList() {
@@ -191,9 +278,16 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Set<Person> matchingPersons) {
+        requireAllNonNull(predicate, matchingPersons);
+        PrecomputedFilter filter = new PrecomputedFilter(predicate, matchingPersons);
+        filteredPersons.setPredicate(filter);
+        filter.discardMatches();
+    }
+
     @Override
     public void sortFilteredPersonList(Comparator<Person> comparator) {
-        requireNonNull(comparator);
         sortedPersons.setComparator(comparator);
     }
 
@@ -202,29 +296,6 @@ public class ModelManager implements Model {
         return sortedPersons;
     }
 
-    /**
-     * Sorts the lessons of each {@code Person} currently in the filtered person list.
-     * <p>
-     * Lessons are ordered first by the numeric value of their day (Monday → Sunday),
-     * and then by their start time within each day. This ensures that every person's
-     * lesson schedule is consistently displayed in chronological order.
-     * </p>
-     *
-     * <p>This operation mutates each {@code Person}'s internal lesson list by replacing
-     * it with a sorted copy, but does not alter the overall list of persons.</p>
-     */
-    @Override
-    public void sortLessonsForEachPerson() {
-        filteredPersons.forEach(person -> {
-            person.setLessons(person.getLessons().stream()
-                    .sorted(Comparator
-                            .comparing((Lesson l) -> l.getDay().getNumericValue())
-                            .thenComparing(l -> l.getStartTime().getTime()))
-                    .toList());
-        });
-    }
-
-
     /**
      * Filters and sorts lessons for each person in the filtered list,
      * keeping only lessons that match the specified subject (case-insensitive).
@@ -242,9 +313,7 @@ public class ModelManager implements Model {
                             .filter(lesson -> lesson.getSubject()
                                     .getSubjectAsString()
                                     .equalsIgnoreCase(subjectKeyword))
-                            .sorted(Comparator
-                                    .comparing((Lesson l) -> l.getDay().getNumericValue())
-                                    .thenComparing(l -> l.getStartTime().getTime()))
+                            .sorted(Comparator.comparingInt(Lesson::getStartOfWeek))
                             .toList());
                     return tempPerson;
                 })
@@ -269,4 +338,29 @@ public class ModelManager implements Model {
                 && filteredPersons.equals(otherModelManager.filteredPersons);
     }
 
+    /**
+     * Filters persons by membership in a set of persons already known to satisfy a predicate, and by testing the
+     * predicate itself once that set is discarded.
+     */
+    private static class PrecomputedFilter implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private Set<Person> matchingPersons;
+
+        PrecomputedFilter(Predicate<Person> predicate, Set<Person> matchingPersons) {
+            this.predicate = predicate;
+            this.matchingPersons = matchingPersons;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return matchingPersons != null ? matchingPersons.contains(person) : predicate.test(person);
+        }
+
+        /**
+         * Makes this filter test its predicate from now on. Called once the set of matching persons is out of date.
+         */
+        void discardMatches() {
+            matchingPersons = null;
+        }
+    }
 }
@@ -2,6 +2,7 @@ package seedu.edudex.model;
 
 import java.nio.file.Path;
 
+import seedu.edudex.commons.core.DataFileFormat;
 import seedu.edudex.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getEduDexFilePath();
 
+    DataFileFormat getEduDexFileFormat();
+
 }
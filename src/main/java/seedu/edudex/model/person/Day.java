@@ -12,7 +12,18 @@ public class Day {
     public static final String[] VALID_DAYS =
         {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday", "Sunday"
     };
+
+    /** The canonical instance of each day, in the order of {@link #VALID_DAYS}. */
+    private static final Day[] CANONICAL_DAYS = new Day[VALID_DAYS.length];
+
+    static {
+        for (int i = 0; i < VALID_DAYS.length; i++) {
+            CANONICAL_DAYS[i] = new Day(VALID_DAYS[i]);
+        }
+    }
+
     private final String day;
+    private final int numericValue;
 
     /**
      * Constructs a {@code Day}.
@@ -22,6 +33,21 @@ public class Day {
     public Day(String day) {
         checkArgument(isValidDay(day), MESSAGE_CONSTRAINTS);
         this.day = normalizeDayString(day);
+        this.numericValue = computeNumericValue(this.day);
+    }
+
+    /**
+     * Returns the canonical {@code Day} for {@code day}, so that all lessons on the same day share one instance.
+     *
+     * @param day A valid day.
+     */
+    public static Day of(String day) {
+        for (int i = 0; i < VALID_DAYS.length; i++) {
+            if (VALID_DAYS[i].equalsIgnoreCase(day)) {
+                return CANONICAL_DAYS[i];
+            }
+        }
+        throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
     }
 
     /**
@@ -37,19 +63,22 @@ public class Day {
     }
 
     /**
-     * Returns numeric value of a valid day for comparison
+     * Returns numeric value of a valid day for comparison, from 1 for Monday to 7 for Sunday.
      */
     public int getNumericValue() {
-        switch (day.toLowerCase()) {
-        case "monday": return 1;
-        case "tuesday": return 2;
-        case "wednesday": return 3;
-        case "thursday": return 4;
-        case "friday": return 5;
-        case "saturday": return 6;
-        case "sunday": return 7;
-        default: return 8; // for invalid or unrecognized values
+        return numericValue;
+    }
+
+    /**
+     * Returns the position of the normalized {@code day} in the week, starting from 1 for Monday.
+     */
+    private static int computeNumericValue(String day) {
+        for (int i = 0; i < VALID_DAYS.length; i++) {
+            if (VALID_DAYS[i].equals(day)) {
+                return i + 1;
+            }
         }
+        return VALID_DAYS.length + 1; // for invalid or unrecognized values
     }
 
     public String getDay() {
@@ -89,9 +118,9 @@ public class Day {
     }
 
     /**
-     * Makes a copy of this Day, and returns a new Day object with the same attributes.
+     * Makes a copy of this Day. As days are immutable, the canonical instance of this day is returned.
      */
     public Day getCopyOfDay() {
-        return new Day(day);
+        return of(day);
     }
 }
@@ -12,6 +12,10 @@ public class DayMatchesPredicate implements Predicate<Person> {
         this.day = day;
     }
 
+    public Day getDay() {
+        return day;
+    }
+
     @Override
     public boolean test(Person person) {
         //        if (person.getSubject() == null) {
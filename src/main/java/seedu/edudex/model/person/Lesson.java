@@ -1,6 +1,7 @@
 package seedu.edudex.model.person;
 
 import static seedu.edudex.commons.util.AppUtil.checkArgument;
+import static seedu.edudex.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
 
@@ -9,16 +10,23 @@ import seedu.edudex.model.subject.Subject;
 /**
  * Represents a Lesson in EduDex.
  * Guarantees: immutable; is valid as declared in {@link #isValidStartEndTime(Time, Time)}
+ *
+ * The start and end of a lesson are also held as seconds since the start of the week (Monday 00:00), so that lessons
+ * are compared and checked for conflicts with integer comparisons alone.
  */
 public class Lesson {
     public static final String MESSAGE_CONSTRAINTS =
             "Start time should be before end time.";
     public static final String MESSAGE_CONFLICTING_LESSON = "This lesson conflicts with an existing lesson.";
+
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
     private final Subject subject;
     private final Day day;
     private final Time startTime;
     private final Time endTime;
-    private final String value;
+    private final int startOfWeek;
+    private final int endOfWeek;
 
     /**
      * Constructs a {@code Subject}.
@@ -28,13 +36,14 @@ public class Lesson {
      * @param endTime A valid end time.
      */
     public Lesson(Subject subject, Day day, Time startTime, Time endTime) {
+        requireAllNonNull(subject, day, startTime, endTime);
         this.subject = subject;
         this.day = day;
         checkArgument(isValidStartEndTime(startTime, endTime), MESSAGE_CONSTRAINTS);
         this.startTime = startTime;
         this.endTime = endTime;
-
-        value = this.toString();
+        this.startOfWeek = toSecondOfWeek(day, startTime);
+        this.endOfWeek = toSecondOfWeek(day, endTime);
     }
 
     public Subject getSubject() {
@@ -53,6 +62,25 @@ public class Lesson {
         return endTime;
     }
 
+    /**
+     * Returns the start of this lesson in seconds since the start of the week.
+     * Lessons ordered by this value are ordered by day, then by start time.
+     */
+    public int getStartOfWeek() {
+        return startOfWeek;
+    }
+
+    /**
+     * Returns the end of this lesson in seconds since the start of the week.
+     */
+    public int getEndOfWeek() {
+        return endOfWeek;
+    }
+
+    private static int toSecondOfWeek(Day day, Time time) {
+        return (day.getNumericValue() - 1) * SECONDS_PER_DAY + time.getTime().toSecondOfDay();
+    }
+
     /**
      * Returns true if startTime is before endTime.
      */
@@ -104,14 +132,7 @@ public class Lesson {
      * @return true if there is a conflict, false otherwise.
      */
     public boolean conflictsWith(Lesson otherLesson) {
-        if (!this.day.equals(otherLesson.day)) {
-            return false; // Different days, no conflict
-        }
-
-        // Check if time intervals overlap
-        boolean isOverlapping = this.startTime.getTime().isBefore(otherLesson.endTime.getTime())
-                && otherLesson.startTime.getTime().isBefore(this.endTime.getTime());
-
-        return isOverlapping; // return existing lesson if conflict exists, else null
+        // lessons never cross midnight, so lessons on different days never overlap within the week
+        return startOfWeek < otherLesson.endOfWeek && otherLesson.startOfWeek < endOfWeek;
     }
 }
@@ -0,0 +1,87 @@
+package seedu.edudex.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Indexes the persons in a {@code UniquePersonList} by an attribute of their lessons, such as the day or subject,
+ * so that the persons having a lesson with a given attribute can be found without visiting every person.
+ *
+ * For each attribute value, the index records how many lessons of each person have that value, so that a person
+ * stays indexed under a value until the last of its lessons with that value is removed.
+ *
+ * @param <K> the type of the indexed attribute
+ */
+class LessonAttributeIndex<K> {
+
+    private final Function<Lesson, K> keyExtractor;
+    private final Map<K, Map<Person, Integer>> lessonCountsByKey = new HashMap<>();
+
+    /** The keys of each indexed person when it was indexed, so that it can be removed even if mutated since. */
+    private final Map<Person, List<K>> indexedKeys = new IdentityHashMap<>();
+
+    /**
+     * Creates an index keyed by the attribute that {@code keyExtractor} reads from each lesson.
+     */
+    LessonAttributeIndex(Function<Lesson, K> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Indexes all lessons of {@code person}.
+     */
+    void addPerson(Person person) {
+        List<K> keys = new ArrayList<>();
+        for (Lesson lesson : person.getLessons()) {
+            K key = keyExtractor.apply(lesson);
+            keys.add(key);
+            lessonCountsByKey.computeIfAbsent(key, unused -> new IdentityHashMap<>()).merge(person, 1, Integer::sum);
+        }
+        indexedKeys.put(person, keys);
+    }
+
+    /**
+     * Removes all lessons of {@code person} from the index.
+     */
+    void removePerson(Person person) {
+        List<K> keys = indexedKeys.remove(person);
+        if (keys == null) {
+            return;
+        }
+        for (K key : keys) {
+            Map<Person, Integer> lessonCounts = lessonCountsByKey.get(key);
+            lessonCounts.computeIfPresent(person, (unused, count) -> count == 1 ? null : count - 1);
+            if (lessonCounts.isEmpty()) {
+                lessonCountsByKey.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the lessons of {@code persons}.
+     */
+    void setPersons(List<Person> persons) {
+        lessonCountsByKey.clear();
+        indexedKeys.clear();
+        persons.forEach(this::addPerson);
+    }
+
+    /**
+     * Returns the persons having at least one lesson with the attribute {@code key}.
+     * The returned set compares persons by reference.
+     */
+    Set<Person> getPersons(K key) {
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<Person, Integer> lessonCounts = lessonCountsByKey.get(key);
+        if (lessonCounts != null) {
+            persons.addAll(lessonCounts.keySet());
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.edudex.model.person;
+
+import static seedu.edudex.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.edudex.commons.util.ToStringBuilder;
+
+/**
+ * Represents an existing {@code Lesson} of a {@code Person} that clashes with a lesson being scheduled.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class LessonConflict {
+
+    private final Person person;
+    private final Lesson lesson;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public LessonConflict(Person person, Lesson lesson) {
+        requireAllNonNull(person, lesson);
+        this.person = person;
+        this.lesson = lesson;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public Lesson getLesson() {
+        return lesson;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonConflict)) {
+            return false;
+        }
+
+        LessonConflict otherConflict = (LessonConflict) other;
+        return person.equals(otherConflict.person)
+                && lesson.equals(otherConflict.lesson);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(person, lesson);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("person", person.getName())
+                .add("lesson", lesson)
+                .toString();
+    }
+}
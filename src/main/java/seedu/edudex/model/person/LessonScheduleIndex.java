@@ -0,0 +1,130 @@
+package seedu.edudex.model.person;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Indexes the lessons of every person in a {@code UniquePersonList} by their start in the week, so that the lessons
+ * overlapping a given time slot can be found without visiting every person and every lesson.
+ *
+ * Lessons are kept sorted by {@link Lesson#getStartOfWeek()}. Together with the length of the longest indexed lesson,
+ * this bounds the starts of all lessons that can possibly overlap a queried slot, so a query only visits the
+ * lessons starting within that window.
+ */
+class LessonScheduleIndex {
+
+    private final TreeMap<Integer, List<Entry>> entriesByStart = new TreeMap<>();
+    private final TreeMap<Integer, Integer> durationCounts = new TreeMap<>();
+
+    /** The lessons each indexed person had when it was indexed, so that it can be removed even if mutated since. */
+    private final Map<Person, List<Lesson>> indexedLessons = new IdentityHashMap<>();
+
+    /**
+     * Indexes all lessons of {@code person}.
+     */
+    void addPerson(Person person) {
+        List<Lesson> lessons = new ArrayList<>(person.getLessons());
+        indexedLessons.put(person, lessons);
+        for (Lesson lesson : lessons) {
+            entriesByStart.computeIfAbsent(lesson.getStartOfWeek(), unused -> new ArrayList<>())
+                    .add(new Entry(person, lesson));
+            durationCounts.merge(getDuration(lesson), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Removes all lessons of {@code person} from the index.
+     */
+    void removePerson(Person person) {
+        List<Lesson> lessons = indexedLessons.remove(person);
+        if (lessons == null) {
+            return;
+        }
+        for (Lesson lesson : lessons) {
+            List<Entry> entries = entriesByStart.get(lesson.getStartOfWeek());
+            if (entries == null || !removeFirst(entries, person, lesson)) {
+                continue;
+            }
+            if (entries.isEmpty()) {
+                entriesByStart.remove(lesson.getStartOfWeek());
+            }
+            durationCounts.computeIfPresent(getDuration(lesson), (unused, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the lessons of {@code persons}.
+     */
+    void setPersons(List<Person> persons) {
+        entriesByStart.clear();
+        durationCounts.clear();
+        indexedLessons.clear();
+        persons.forEach(this::addPerson);
+    }
+
+    /**
+     * Returns every indexed lesson that conflicts with {@code lesson}, ordered by start time.
+     * Lessons of {@code personToExclude} and lessons equal to {@code lesson} (a lesson shared by several students)
+     * are not considered conflicts.
+     */
+    List<LessonConflict> findConflicts(Lesson lesson, Person personToExclude) {
+        List<LessonConflict> conflicts = new ArrayList<>();
+        if (entriesByStart.isEmpty()) {
+            return conflicts;
+        }
+
+        // a lesson can only end after the queried start if it began less than the longest duration before it
+        int earliestPossibleStart = lesson.getStartOfWeek() - durationCounts.lastKey();
+
+        Collection<List<Entry>> candidates =
+                entriesByStart.subMap(earliestPossibleStart, false, lesson.getEndOfWeek(), false).values();
+        for (List<Entry> entries : candidates) {
+            for (Entry entry : entries) {
+                if (entry.person.equals(personToExclude) || entry.lesson.equals(lesson)) {
+                    continue;
+                }
+                if (entry.lesson.conflictsWith(lesson)) {
+                    conflicts.add(new LessonConflict(entry.person, entry.lesson));
+                }
+            }
+        }
+        return conflicts;
+    }
+
+    private static int getDuration(Lesson lesson) {
+        return lesson.getEndOfWeek() - lesson.getStartOfWeek();
+    }
+
+    /**
+     * Removes the first entry of {@code person} holding {@code lesson}, returning true if one was found.
+     */
+    private static boolean removeFirst(List<Entry> entries, Person person, Lesson lesson) {
+        Iterator<Entry> iterator = entries.iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.person == person && entry.lesson.equals(lesson)) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A lesson of an indexed person.
+     */
+    private static class Entry {
+        private final Person person;
+        private final Lesson lesson;
+
+        Entry(Person person, Lesson lesson) {
+            this.person = person;
+            this.lesson = lesson;
+        }
+    }
+}
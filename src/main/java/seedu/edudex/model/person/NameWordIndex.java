@@ -0,0 +1,87 @@
+package seedu.edudex.model.person;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Indexes the persons in a {@code UniquePersonList} by the lowercase words of their names, so that the persons with a
+ * name word starting with a given prefix can be found without splitting and lowercasing every name.
+ *
+ * Words are kept sorted, so all words sharing a prefix form a contiguous range that a query reads directly.
+ */
+class NameWordIndex {
+
+    private final TreeMap<String, Set<Person>> personsByWord = new TreeMap<>();
+
+    /**
+     * Indexes every word in the name of {@code person}.
+     */
+    void addPerson(Person person) {
+        for (String word : toWords(person.getName())) {
+            personsByWord.computeIfAbsent(word, unused -> newIdentitySet()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the entries of every word in its name.
+     */
+    void removePerson(Person person) {
+        for (String word : toWords(person.getName())) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the names of {@code persons}.
+     */
+    void setPersons(List<Person> persons) {
+        personsByWord.clear();
+        persons.forEach(this::addPerson);
+    }
+
+    /**
+     * Returns the persons with a name word starting with any of {@code prefixes}, ignoring case.
+     * The returned set compares persons by reference.
+     */
+    Set<Person> findPersonsWithWordStartingWith(Collection<String> prefixes) {
+        Set<Person> matches = newIdentitySet();
+        for (String prefix : prefixes) {
+            String lowerPrefix = prefix.trim().toLowerCase();
+            for (Map.Entry<String, Set<Person>> entry : personsByWord.tailMap(lowerPrefix, true).entrySet()) {
+                if (!entry.getKey().startsWith(lowerPrefix)) {
+                    break;
+                }
+                matches.addAll(entry.getValue());
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the lowercase words of {@code name}, split the same way as
+     * {@link seedu.edudex.commons.util.StringUtil#containsWordStartingWithIgnoreCase(String, String)}.
+     */
+    private static String[] toWords(Name name) {
+        String[] words = name.fullName.split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            words[i] = words[i].toLowerCase();
+        }
+        return words;
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
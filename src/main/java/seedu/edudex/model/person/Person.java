@@ -31,6 +31,9 @@ public class Person {
 
     private List<Lesson> lessons;
 
+    /** Orders this person by its earliest lesson in the week; recomputed whenever the lessons change. */
+    private int earliestLessonKey;
+
     /**
      * Constructor for initialising a new Person with no lessons.
      * Every field must be present and not null.
@@ -51,6 +54,7 @@ public class Person {
         this.address = address;
         this.tags.addAll(tags);
         this.lessons = new ArrayList<>(lessons); // defensive copy
+        this.earliestLessonKey = computeEarliestLessonKey(this.lessons);
     }
 
     public Name getName() {
@@ -69,8 +73,12 @@ public class Person {
         return address;
     }
 
+    /**
+     * Replaces the lessons of this person with {@code lessons}.
+     */
     public void setLessons(List<Lesson> lessons) {
         this.lessons = lessons;
+        this.earliestLessonKey = computeEarliestLessonKey(lessons);
     }
 
     public List<Lesson> getLessons() {
@@ -109,6 +117,23 @@ public class Person {
      */
     public void addLesson(Lesson lesson) {
         this.lessons.add(lesson);
+        this.earliestLessonKey = Math.min(earliestLessonKey, lesson.getStartOfWeek());
+    }
+
+    /**
+     * Returns a key that orders persons by the day and start time of their earliest lesson in the week.
+     * Persons without lessons have the largest key.
+     */
+    int getEarliestLessonKey() {
+        return earliestLessonKey;
+    }
+
+    private static int computeEarliestLessonKey(List<Lesson> lessons) {
+        int earliestKey = Integer.MAX_VALUE;
+        for (Lesson lesson : lessons) {
+            earliestKey = Math.min(earliestKey, lesson.getStartOfWeek());
+        }
+        return earliestKey;
     }
 
 
@@ -3,6 +3,8 @@ package seedu.edudex.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.edudex.commons.util.AppUtil.checkArgument;
 
+import seedu.edudex.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's school in EduDex.
  * Guarantees: immutable; is valid as declared in {@link #isValidSchool(String)}
@@ -34,7 +36,7 @@ public class School {
      * Returns true if a given string is a valid school.
      */
     public static boolean isValidSchool(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWords(test);
     }
 
     @Override
@@ -9,36 +9,7 @@ import java.util.Comparator;
 public class SubjectComparator implements Comparator<Person> {
     @Override
     public int compare(Person p1, Person p2) {
-        // Sort by earliest day/time of each student's lessons
-        Lesson firstLesson1 = p1.getLessons().stream()
-                .sorted(Comparator
-                        .comparing((Lesson l) -> l.getDay().getNumericValue())
-                        .thenComparing(l -> l.getStartTime().getTime()))
-                .findFirst()
-                .orElse(null);
-
-        Lesson firstLesson2 = p2.getLessons().stream()
-                .sorted(Comparator
-                        .comparing((Lesson l) -> l.getDay().getNumericValue())
-                        .thenComparing(l -> l.getStartTime().getTime()))
-                .findFirst()
-                .orElse(null);
-
-        if (firstLesson1 == null && firstLesson2 == null) {
-            return 0;
-        }
-
-        if (firstLesson1 == null) {
-            return 1;
-        }
-
-        if (firstLesson2 == null) {
-            return -1;
-        }
-
-        return Comparator
-                .comparing((Lesson l) -> l.getDay().getNumericValue())
-                .thenComparing(l -> l.getStartTime().getTime())
-                .compare(firstLesson1, firstLesson2);
+        // Sort by earliest day/time of each student's lessons, with students without lessons last
+        return Integer.compare(p1.getEarliestLessonKey(), p2.getEarliestLessonKey());
     }
 }
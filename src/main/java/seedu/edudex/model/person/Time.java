@@ -1,5 +1,6 @@
 package seedu.edudex.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.edudex.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalTime;
@@ -11,6 +12,12 @@ import java.time.LocalTime;
 public class Time {
     public static final String MESSAGE_CONSTRAINTS =
             "Time should be in the format HH:MM (24-hour format) and should be a valid time.";
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    /** The canonical instance of each whole minute of the day written as HH:MM, created on first use. */
+    private static final Time[] CANONICAL_MINUTES = new Time[MINUTES_PER_DAY];
+
     private final LocalTime time;
     private final String timeString;
 
@@ -25,10 +32,68 @@ public class Time {
         this.timeString = time;
     }
 
+    private Time(LocalTime time, String timeString) {
+        this.time = time;
+        this.timeString = timeString;
+    }
+
+    /**
+     * Returns a {@code Time} for {@code time}. Times written as HH:MM share one canonical instance per minute;
+     * other valid forms, such as HH:MM:SS, get a new instance.
+     *
+     * @param time A valid time.
+     */
+    public static Time of(String time) {
+        requireNonNull(time);
+        int minuteOfDay = parseMinuteOfDay(time);
+        if (minuteOfDay < 0) {
+            return new Time(time);
+        }
+
+        // racing threads may each create an instance, but any of them is a valid canonical instance
+        Time canonicalTime = CANONICAL_MINUTES[minuteOfDay];
+        if (canonicalTime == null) {
+            canonicalTime = new Time(LocalTime.of(minuteOfDay / 60, minuteOfDay % 60), time);
+            CANONICAL_MINUTES[minuteOfDay] = canonicalTime;
+        }
+        return canonicalTime;
+    }
+
+    /**
+     * Returns the minute of the day written by {@code time} if it is a valid time of the form HH:MM, or -1 otherwise.
+     */
+    private static int parseMinuteOfDay(String time) {
+        if (time.length() != 5 || time.charAt(2) != ':') {
+            return -1;
+        }
+        int hour = parseTwoDigits(time, 0);
+        int minute = parseTwoDigits(time, 3);
+        if (hour < 0 || hour >= 24 || minute < 0 || minute >= 60) {
+            return -1;
+        }
+        return hour * 60 + minute;
+    }
+
+    /**
+     * Returns the number written by the two digits of {@code text} at {@code start}, or -1 if they are not digits.
+     */
+    private static int parseTwoDigits(String text, int start) {
+        char tens = text.charAt(start);
+        char ones = text.charAt(start + 1);
+        if (tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
     /**
      * Returns true if a given string is a valid time.
      */
     public static boolean isValidTime(String time) {
+        if (time != null && parseMinuteOfDay(time) >= 0) {
+            return true;
+        }
+        // other forms accepted by LocalTime, such as HH:MM:SS, are rare enough to not need a fast path
         try {
             LocalTime.parse(time);
             return true;
@@ -64,9 +129,9 @@ public class Time {
     }
 
     /**
-     * Makes a copy of this Time, and returns a new Time object with the same attributes.
+     * Makes a copy of this Time. As times are immutable, the canonical instance of this time is returned if any.
      */
     public Time getCopyOfTime() {
-        return new Time(timeString);
+        return of(timeString);
     }
 }
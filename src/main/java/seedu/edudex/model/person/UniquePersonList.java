@@ -3,8 +3,14 @@ package seedu.edudex.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.edudex.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +24,10 @@ import seedu.edudex.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are also indexed by case-folded name, so identity checks take constant time regardless of list size,
+ * and by the words of their names and the days and subjects of their lessons, so searches need not visit every
+ * person.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +37,19 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Person> personsByIdentity = new HashMap<>();
+    private final LessonScheduleIndex lessonScheduleIndex = new LessonScheduleIndex();
+    private final NameWordIndex nameWordIndex = new NameWordIndex();
+    private final LessonAttributeIndex<Day> dayIndex = new LessonAttributeIndex<>(Lesson::getDay);
+    private final LessonAttributeIndex<String> subjectIndex =
+            new LessonAttributeIndex<>(lesson -> toSubjectKey(lesson.getSubject().toString()));
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByIdentity.containsKey(toIdentityKey(toCheck));
     }
 
     /**
@@ -46,6 +62,11 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        personsByIdentity.put(toIdentityKey(toAdd), toAdd);
+        lessonScheduleIndex.addPerson(toAdd);
+        nameWordIndex.addPerson(toAdd);
+        dayIndex.addPerson(toAdd);
+        subjectIndex.addPerson(toAdd);
     }
 
     /**
@@ -65,7 +86,17 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replacedPerson = internalList.set(index, editedPerson);
+        personsByIdentity.remove(toIdentityKey(replacedPerson));
+        personsByIdentity.put(toIdentityKey(editedPerson), editedPerson);
+        lessonScheduleIndex.removePerson(replacedPerson);
+        lessonScheduleIndex.addPerson(editedPerson);
+        nameWordIndex.removePerson(replacedPerson);
+        nameWordIndex.addPerson(editedPerson);
+        dayIndex.removePerson(replacedPerson);
+        dayIndex.addPerson(editedPerson);
+        subjectIndex.removePerson(replacedPerson);
+        subjectIndex.addPerson(editedPerson);
     }
 
     /**
@@ -74,14 +105,22 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removedPerson = internalList.remove(index);
+        personsByIdentity.remove(toIdentityKey(removedPerson));
+        lessonScheduleIndex.removePerson(removedPerson);
+        nameWordIndex.removePerson(removedPerson);
+        dayIndex.removePerson(removedPerson);
+        subjectIndex.removePerson(removedPerson);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -90,11 +129,50 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<String> duplicateNames = findDuplicateNames(persons);
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePersonException(duplicateNames);
         }
 
         internalList.setAll(persons);
+        rebuildIndexes();
+    }
+
+    /**
+     * Returns every lesson of the persons in this list that conflicts with {@code lesson}, ordered by start time.
+     * Lessons of {@code personToExclude}, and lessons identical to {@code lesson}, are not treated as conflicts.
+     */
+    public List<LessonConflict> findLessonConflicts(Lesson lesson, Person personToExclude) {
+        requireNonNull(lesson);
+        return lessonScheduleIndex.findConflicts(lesson, personToExclude);
+    }
+
+    /**
+     * Returns the persons in this list with a name word starting with any of {@code keywords}, ignoring case.
+     * Matches exactly the persons accepted by a {@code NameContainsKeywordsPredicate} of the same keywords.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> findPersonsByNameKeywords(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return nameWordIndex.findPersonsWithWordStartingWith(keywords);
+    }
+
+    /**
+     * Returns the persons in this list having at least one lesson on {@code day}.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> findPersonsWithLessonOn(Day day) {
+        requireNonNull(day);
+        return dayIndex.getPersons(day);
+    }
+
+    /**
+     * Returns the persons in this list having at least one lesson in the subject named {@code subjectName},
+     * ignoring case. The returned set compares persons by reference.
+     */
+    public Set<Person> findPersonsWithLessonInSubject(String subjectName) {
+        requireNonNull(subjectName);
+        return subjectIndex.getPersons(toSubjectKey(subjectName.trim()));
     }
 
     /**
@@ -135,16 +213,47 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Rebuilds every index from the current contents of {@code internalList}.
+     */
+    private void rebuildIndexes() {
+        personsByIdentity.clear();
+        for (Person person : internalList) {
+            personsByIdentity.put(toIdentityKey(person), person);
+        }
+        lessonScheduleIndex.setPersons(internalList);
+        nameWordIndex.setPersons(internalList);
+        dayIndex.setPersons(internalList);
+        subjectIndex.setPersons(internalList);
+    }
+
+    /**
+     * Returns the key under which {@code person} is indexed by identity.
+     * Two persons have the same key iff they are the same person by {@link Person#isSamePerson(Person)}.
+     */
+    private static String toIdentityKey(Person person) {
+        return person.getName().fullName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the key under which lessons in the subject displayed as {@code subjectName} are indexed.
+     */
+    private static String toSubjectKey(String subjectName) {
+        return subjectName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the names of all persons in {@code persons} that share their identity with another person in the list,
+     * each reported once in order of first appearance. Returns an empty list if all persons are unique.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static List<String> findDuplicateNames(List<Person> persons) {
+        Map<String, String> firstNameByIdentity = new HashMap<>();
+        Set<String> duplicateNames = new LinkedHashSet<>();
+        for (Person person : persons) {
+            String firstName = firstNameByIdentity.putIfAbsent(toIdentityKey(person), person.getName().fullName);
+            if (firstName != null) {
+                duplicateNames.add(firstName);
             }
         }
-        return true;
+        return new ArrayList<>(duplicateNames);
     }
 }
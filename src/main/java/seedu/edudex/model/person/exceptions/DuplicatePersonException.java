@@ -1,11 +1,35 @@
 package seedu.edudex.model.person.exceptions;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<String> duplicateNames;
+
+    /**
+     * Constructs a {@code DuplicatePersonException} without naming the duplicated persons.
+     */
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicateNames = new ArrayList<>();
+    }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} naming every person that would be duplicated.
+     */
+    public DuplicatePersonException(List<String> duplicateNames) {
+        super("Operation would result in duplicate persons: " + String.join(", ", duplicateNames));
+        this.duplicateNames = new ArrayList<>(duplicateNames);
+    }
+
+    /**
+     * Returns the names of the duplicated persons, or an empty list if they are not known.
+     */
+    public List<String> getDuplicateNames() {
+        return new ArrayList<>(duplicateNames);
     }
 }
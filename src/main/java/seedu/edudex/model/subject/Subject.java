@@ -3,6 +3,11 @@ package seedu.edudex.model.subject;
 import static java.util.Objects.requireNonNull;
 import static seedu.edudex.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.edudex.commons.util.ValidationUtil;
+
 /**
  * Represents a Subject in EduDex.
  * Guarantees: immutable; is valid as declared in {@link #isValidSubjectName(String)}
@@ -19,6 +24,9 @@ public class Subject {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    /** The canonical instance of each subject, keyed by lowercase name. */
+    private static final Map<String, Subject> CANONICAL_SUBJECTS = new ConcurrentHashMap<>();
+
     private final String subjectName;
 
     /**
@@ -32,12 +40,23 @@ public class Subject {
         this.subjectName = name.toLowerCase();
     }
 
+    /**
+     * Returns the canonical {@code Subject} named {@code name}, ignoring case, so that all lessons of a subject share
+     * one instance.
+     *
+     * @param name A valid subject.
+     */
+    public static Subject of(String name) {
+        requireNonNull(name);
+        return CANONICAL_SUBJECTS.computeIfAbsent(name.toLowerCase(), Subject::new);
+    }
+
     /**
      * Returns true if a given string is alphanumeric.
      */
     public static boolean isValidSubjectName(String name) {
         requireNonNull(name);
-        return name.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWords(name);
     }
 
     /**
@@ -105,9 +124,9 @@ public class Subject {
     }
 
     /**
-     * Makes a copy of this Subject, and return a new Subject object with the same attributes.
+     * Makes a copy of this Subject. As subjects are immutable, the canonical instance of this subject is returned.
      */
     public Subject getCopyOfSubject() {
-        return new Subject(subjectName);
+        return of(subjectName);
     }
 }
@@ -3,8 +3,14 @@ package seedu.edudex.model.subject;
 import static java.util.Objects.requireNonNull;
 import static seedu.edudex.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -90,8 +96,9 @@ public class UniqueSubjectList implements Iterable<Subject> {
      */
     public void setSubjects(List<Subject> subjects) {
         requireAllNonNull(subjects);
-        if (!subjectsAreUnique(subjects)) {
-            throw new DuplicateSubjectException();
+        List<String> duplicateNames = findDuplicateNames(subjects);
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicateSubjectException(duplicateNames);
         }
 
         internalList.setAll(subjects);
@@ -136,17 +143,19 @@ public class UniqueSubjectList implements Iterable<Subject> {
     }
 
     /**
-     * Returns true if {@code subjects} contains only unique subjects.
+     * Returns the names of all subjects in {@code subjects} that share their name with another subject in the list,
+     * each reported once in order of first appearance. Returns an empty list if all subjects are unique.
      */
-    private boolean subjectsAreUnique(List<Subject> subjects) {
-        for (int i = 0; i < subjects.size() - 1; i++) {
-            for (int j = i + 1; j < subjects.size(); j++) {
-                if (subjects.get(i).isSameSubject(subjects.get(j))) {
-                    return false;
-                }
+    private static List<String> findDuplicateNames(List<Subject> subjects) {
+        Map<String, String> firstNameByKey = new HashMap<>();
+        Set<String> duplicateNames = new LinkedHashSet<>();
+        for (Subject subject : subjects) {
+            String key = subject.getSubjectAsString().toLowerCase(Locale.ROOT);
+            String firstName = firstNameByKey.putIfAbsent(key, subject.toString());
+            if (firstName != null) {
+                duplicateNames.add(firstName);
             }
         }
-        return true;
+        return new ArrayList<>(duplicateNames);
     }
 }
-
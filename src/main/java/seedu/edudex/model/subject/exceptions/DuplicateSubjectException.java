@@ -1,11 +1,35 @@
 package seedu.edudex.model.subject.exceptions;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicateSubjectException extends RuntimeException {
+    private final List<String> duplicateNames;
+
+    /**
+     * Constructs a {@code DuplicateSubjectException} without naming the duplicated subjects.
+     */
     public DuplicateSubjectException() {
         super("Operation would result in duplicate subjects");
+        duplicateNames = new ArrayList<>();
+    }
+
+    /**
+     * Constructs a {@code DuplicateSubjectException} naming every subject that would be duplicated.
+     */
+    public DuplicateSubjectException(List<String> duplicateNames) {
+        super("Operation would result in duplicate subjects: " + String.join(", ", duplicateNames));
+        this.duplicateNames = new ArrayList<>(duplicateNames);
+    }
+
+    /**
+     * Returns the names of the duplicated subjects, or an empty list if they are not known.
+     */
+    public List<String> getDuplicateNames() {
+        return new ArrayList<>(duplicateNames);
     }
 }
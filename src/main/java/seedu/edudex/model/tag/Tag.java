@@ -3,6 +3,11 @@ package seedu.edudex.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.edudex.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.edudex.commons.util.ValidationUtil;
+
 /**
  * Represents a Tag in EduDex.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +17,9 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric, without spaces";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    /** The canonical instance of each tag, keyed by name. */
+    private static final Map<String, Tag> CANONICAL_TAGS = new ConcurrentHashMap<>();
+
     public final String tagName;
 
     /**
@@ -25,11 +33,21 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} named {@code tagName}, so that all persons with a tag share one instance.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        return CANONICAL_TAGS.computeIfAbsent(tagName, Tag::new);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumeric(test);
     }
 
     @Override
@@ -0,0 +1,285 @@
+package seedu.edudex.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.edudex.commons.core.DataFileFormat;
+import seedu.edudex.commons.exceptions.IllegalValueException;
+import seedu.edudex.model.EduDex;
+import seedu.edudex.model.ReadOnlyEduDex;
+import seedu.edudex.model.person.Day;
+import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.Time;
+import seedu.edudex.model.subject.Subject;
+import seedu.edudex.model.tag.Tag;
+
+/**
+ * A class to access EduDex data stored as a compact binary file on the hard disk.
+ *
+ * The file starts with a magic number and a format version, followed by a dictionary of the strings that recur
+ * across persons: subject names, schools and tags. The subjects and then the persons follow, each person as a
+ * length-prefixed record that refers to dictionary strings by their index. Each lesson is stored as the index of its
+ * subject, its day, and its start and end times as seconds of the day, followed by the nanoseconds of the second for
+ * the rare times that have them. Files of version 1, which stored whole minutes only, can still be read.
+ *
+ * Records are converted to the model through the same adapted classes as json, so both formats hold exactly the same
+ * data and apply the same constraints when loaded.
+ */
+public class BinaryEduDexStorage extends FileEduDexStorage {
+
+    /** The bytes "EDXB" that start every binary data file. */
+    public static final int MAGIC_NUMBER = 0x45445842;
+    public static final int FORMAT_VERSION = 2;
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "File is not an EduDex binary data file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported EduDex binary data file version: %d";
+    public static final String MESSAGE_CORRUPTED_FILE = "EduDex binary data file is corrupted.";
+
+    /** The version that packed the day, start minute and end minute of each lesson into a single int. */
+    private static final int MINUTES_FORMAT_VERSION = 1;
+    private static final int MINUTE_BITS = 11;
+    private static final int MINUTE_MASK = (1 << MINUTE_BITS) - 1;
+
+    /** Set in the stored time if the nanoseconds of the second follow it. */
+    private static final int HAS_NANOS_FLAG = 1;
+
+    public BinaryEduDexStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected DataFileFormat getFormat() {
+        return DataFileFormat.BINARY;
+    }
+
+    @Override
+    protected ReadOnlyEduDex readDataFile(Path file) throws IOException, IllegalValueException {
+        // the whole file is read at once, so that lengths can be checked against the bytes actually left
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file)))) {
+            if (in.readInt() != MAGIC_NUMBER) {
+                throw new IOException(MESSAGE_NOT_BINARY_FILE);
+            }
+            int version = in.readUnsignedShort();
+            if (version != FORMAT_VERSION && version != MINUTES_FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            String[] dictionary = new String[readCount(in)];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = in.readUTF();
+            }
+
+            EduDex eduDex = new EduDex();
+            int subjectCount = readCount(in);
+            for (int i = 0; i < subjectCount; i++) {
+                Subject subject = new JsonAdaptedSubject(lookUp(dictionary, in.readInt())).toModelType();
+                if (eduDex.hasSubject(subject)) {
+                    throw new IllegalValueException(JsonSerializableEduDex.MESSAGE_DUPLICATE_SUBJECT);
+                }
+                eduDex.addSubject(subject);
+            }
+
+            int personCount = readCount(in);
+            List<JsonAdaptedPerson> batch = new ArrayList<>();
+            for (int i = 0; i < personCount; i++) {
+                byte[] record = new byte[readCount(in)];
+                in.readFully(record);
+                batch.add(readPerson(record, dictionary, version));
+                if (batch.size() == ParallelRecordConverter.BATCH_SIZE) {
+                    JsonEduDexStreamReader.addPersons(batch, eduDex);
+                    batch.clear();
+                }
+            }
+            JsonEduDexStreamReader.addPersons(batch, eduDex);
+            return eduDex;
+        }
+    }
+
+    private static JsonAdaptedPerson readPerson(byte[] record, String[] dictionary, int version) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        String name = in.readUTF();
+        String phone = in.readUTF();
+        String school = lookUp(dictionary, in.readInt());
+        String address = in.readUTF();
+
+        int tagCount = readCount(in);
+        List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(lookUp(dictionary, in.readInt())));
+        }
+
+        int lessonCount = readCount(in);
+        List<JsonAdaptedLesson> lessons = new ArrayList<>(lessonCount);
+        for (int i = 0; i < lessonCount; i++) {
+            String subject = lookUp(dictionary, in.readInt());
+            lessons.add(version == MINUTES_FORMAT_VERSION
+                    ? readMinutesLesson(subject, in)
+                    : new JsonAdaptedLesson(subject, toDayString(in.readUnsignedByte()), readTime(in), readTime(in)));
+        }
+
+        if (in.available() != 0) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return new JsonAdaptedPerson(name, phone, school, address, tags, lessons);
+    }
+
+    /**
+     * Reads the timing of a lesson of {@code subject} stored by version 1 of the format.
+     */
+    private static JsonAdaptedLesson readMinutesLesson(String subject, DataInputStream in) throws IOException {
+        int timing = in.readInt();
+        return new JsonAdaptedLesson(subject, toDayString(timing >>> (2 * MINUTE_BITS)),
+                toTimeString((timing >>> MINUTE_BITS) & MINUTE_MASK), toTimeString(timing & MINUTE_MASK));
+    }
+
+    /**
+     * Reads a time written by {@link #writeTime(Time, DataOutputStream)}, formatted as {@link Time} formats it.
+     */
+    private static String readTime(DataInputStream in) throws IOException {
+        int storedTime = in.readInt();
+        int secondOfDay = storedTime >>> 1;
+        int nanoOfSecond = (storedTime & HAS_NANOS_FLAG) != 0 ? in.readInt() : 0;
+        if (secondOfDay > LocalTime.MAX.toSecondOfDay() || nanoOfSecond < 0
+                || nanoOfSecond > LocalTime.MAX.getNano()) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        if (secondOfDay % 60 == 0 && nanoOfSecond == 0) {
+            return toTimeString(secondOfDay / 60);
+        }
+        return LocalTime.ofSecondOfDay(secondOfDay).withNano(nanoOfSecond).toString();
+    }
+
+    @Override
+    protected void writeDataFile(ReadOnlyEduDex eduDex, OutputStream out) throws IOException {
+        Map<String, Integer> dictionary = buildDictionary(eduDex);
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC_NUMBER);
+        data.writeShort(FORMAT_VERSION);
+        data.writeInt(dictionary.size());
+        for (String string : dictionary.keySet()) {
+            data.writeUTF(string);
+        }
+
+        data.writeInt(eduDex.getSubjectList().size());
+        for (Subject subject : eduDex.getSubjectList()) {
+            data.writeInt(dictionary.get(subject.getSubjectAsString()));
+        }
+
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        data.writeInt(eduDex.getPersonList().size());
+        for (Person person : eduDex.getPersonList()) {
+            recordBytes.reset();
+            writePerson(person, record, dictionary);
+            data.writeInt(recordBytes.size());
+            recordBytes.writeTo(data);
+        }
+        data.flush();
+    }
+
+    private static void writePerson(Person person, DataOutputStream out, Map<String, Integer> dictionary)
+            throws IOException {
+        out.writeUTF(person.getName().fullName);
+        out.writeUTF(person.getPhone().value);
+        out.writeInt(dictionary.get(person.getSchool().value));
+        out.writeUTF(person.getAddress().value);
+
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(dictionary.get(tag.tagName));
+        }
+
+        out.writeInt(person.getLessons().size());
+        for (Lesson lesson : person.getLessons()) {
+            out.writeInt(dictionary.get(lesson.getSubject().toString()));
+            out.writeByte(lesson.getDay().getNumericValue());
+            writeTime(lesson.getStartTime(), out);
+            writeTime(lesson.getEndTime(), out);
+        }
+    }
+
+    /**
+     * Writes {@code time} as its second of the day, followed by its nanoseconds of the second if it has any.
+     */
+    private static void writeTime(Time time, DataOutputStream out) throws IOException {
+        LocalTime localTime = time.getTime();
+        int nanoOfSecond = localTime.getNano();
+        if (nanoOfSecond == 0) {
+            out.writeInt(localTime.toSecondOfDay() << 1);
+        } else {
+            out.writeInt(localTime.toSecondOfDay() << 1 | HAS_NANOS_FLAG);
+            out.writeInt(nanoOfSecond);
+        }
+    }
+
+    /**
+     * Returns the strings that recur across the persons and subjects of {@code eduDex}, mapped to their index, in
+     * the order they are written.
+     */
+    private static Map<String, Integer> buildDictionary(ReadOnlyEduDex eduDex) {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Subject subject : eduDex.getSubjectList()) {
+            dictionary.putIfAbsent(subject.getSubjectAsString(), dictionary.size());
+        }
+        for (Person person : eduDex.getPersonList()) {
+            dictionary.putIfAbsent(person.getSchool().value, dictionary.size());
+            for (Tag tag : person.getTags()) {
+                dictionary.putIfAbsent(tag.tagName, dictionary.size());
+            }
+            for (Lesson lesson : person.getLessons()) {
+                dictionary.putIfAbsent(lesson.getSubject().toString(), dictionary.size());
+            }
+        }
+        return dictionary;
+    }
+
+    /**
+     * Reads the number of items that follow. As each item takes at least one byte, a count larger than the bytes left
+     * can only come from a corrupted file, and is rejected before anything is allocated for it.
+     */
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > in.available()) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return count;
+    }
+
+    private static String lookUp(String[] dictionary, int index) throws IOException {
+        if (index < 0 || index >= dictionary.length) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return dictionary[index];
+    }
+
+    private static String toDayString(int day) throws IOException {
+        if (day < 1 || day > Day.VALID_DAYS.length) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return Day.VALID_DAYS[day - 1];
+    }
+
+    /**
+     * Returns {@code minuteOfDay} formatted as HH:MM.
+     */
+    private static String toTimeString(int minuteOfDay) {
+        int hour = minuteOfDay / 60;
+        int minute = minuteOfDay % 60;
+        return new String(new char[] {
+            (char) ('0' + hour / 10), (char) ('0' + hour % 10), ':',
+            (char) ('0' + minute / 10), (char) ('0' + minute % 10)
+        });
+    }
+}
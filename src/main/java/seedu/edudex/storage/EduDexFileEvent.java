@@ -0,0 +1,48 @@
+package seedu.edudex.storage;
+
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import seedu.edudex.model.ReadOnlyEduDex;
+
+/**
+ * A Java Flight Recorder event for reading or writing a whole EduDex data file.
+ */
+@Category({"EduDex", "Storage"})
+@StackTrace(false)
+abstract class EduDexFileEvent extends Event {
+
+    @Label("Path")
+    protected String path;
+
+    @Label("Format")
+    @Description("Storage class that read or wrote the file")
+    protected String format;
+
+    @Label("Persons")
+    protected int personCount;
+
+    @Label("Subjects")
+    protected int subjectCount;
+
+    @Label("Size")
+    @DataAmount
+    protected long byteCount;
+
+    /**
+     * Sets the fields of this event for {@code eduDex}, of {@code byteCount} bytes, read from or written to
+     * {@code path} by {@code storage}.
+     */
+    void set(FileEduDexStorage storage, Path path, ReadOnlyEduDex eduDex, long byteCount) {
+        this.path = path.toString();
+        this.format = storage.getClass().getSimpleName();
+        this.personCount = eduDex.getPersonList().size();
+        this.subjectCount = eduDex.getSubjectList().size();
+        this.byteCount = byteCount;
+    }
+}
@@ -0,0 +1,14 @@
+package seedu.edudex.storage;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for reading EduDex from a data file.
+ */
+@Name("seedu.edudex.Load")
+@Label("Load EduDex")
+@Description("Reading all of EduDex from a data file")
+class EduDexLoadEvent extends EduDexFileEvent {
+}
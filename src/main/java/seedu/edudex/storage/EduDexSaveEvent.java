@@ -0,0 +1,14 @@
+package seedu.edudex.storage;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for writing EduDex to a data file.
+ */
+@Name("seedu.edudex.Save")
+@Label("Save EduDex")
+@Description("Writing all of EduDex to a data file, keeping the previous file as a backup")
+class EduDexSaveEvent extends EduDexFileEvent {
+}
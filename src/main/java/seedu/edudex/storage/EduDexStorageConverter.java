@@ -0,0 +1,80 @@
+package seedu.edudex.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.edudex.commons.core.DataFileFormat;
+import seedu.edudex.commons.core.LogsCenter;
+import seedu.edudex.commons.exceptions.DataLoadingException;
+import seedu.edudex.model.ReadOnlyEduDex;
+
+/**
+ * Converts EduDex data files between the supported {@link DataFileFormat}s.
+ */
+public class EduDexStorageConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(EduDexStorageConverter.class);
+
+    private EduDexStorageConverter() {}
+
+    /**
+     * Returns a storage for the data file at {@code filePath} in the given {@code format}.
+     */
+    public static FileEduDexStorage createStorage(Path filePath, DataFileFormat format) {
+        return createStorage(filePath, format, false);
+    }
+
+    /**
+     * Returns a storage for the data file at {@code filePath} in the given {@code format}, that writes json without
+     * indentation if {@code isCompactJson} is true.
+     */
+    public static FileEduDexStorage createStorage(Path filePath, DataFileFormat format, boolean isCompactJson) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        switch (format) {
+        case BINARY:
+            return new BinaryEduDexStorage(filePath);
+        default:
+            return new JsonEduDexStorage(filePath, isCompactJson);
+        }
+    }
+
+    /**
+     * Returns the format of the existing data file at {@code filePath}, telling binary files by their magic number.
+     *
+     * @throws IOException if the data file could not be read.
+     */
+    public static DataFileFormat detectFormat(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.readInt() == BinaryEduDexStorage.MAGIC_NUMBER ? DataFileFormat.BINARY : DataFileFormat.JSON;
+        } catch (EOFException e) {
+            return DataFileFormat.JSON;
+        }
+    }
+
+    /**
+     * Reads the data file at {@code sourcePath} in {@code sourceFormat}, and writes its data to {@code targetPath} in
+     * {@code targetFormat}. Returns false, without writing anything, if there is no data file at {@code sourcePath}.
+     *
+     * @throws DataLoadingException if the source data file could not be loaded.
+     * @throws IOException if the target data file could not be written.
+     */
+    public static boolean convert(Path sourcePath, DataFileFormat sourceFormat, Path targetPath,
+            DataFileFormat targetFormat) throws DataLoadingException, IOException {
+        Optional<ReadOnlyEduDex> eduDex = createStorage(sourcePath, sourceFormat).readEduDex();
+        if (eduDex.isEmpty()) {
+            return false;
+        }
+        createStorage(targetPath, targetFormat).saveEduDex(eduDex.get());
+        logger.info("Converted " + sourcePath + " (" + sourceFormat + ") to " + targetPath + " (" + targetFormat + ")");
+        return true;
+    }
+}
@@ -0,0 +1,196 @@
+package seedu.edudex.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.edudex.commons.core.DataFileFormat;
+import seedu.edudex.commons.core.LogsCenter;
+import seedu.edudex.commons.exceptions.DataLoadingException;
+import seedu.edudex.commons.exceptions.IllegalValueException;
+import seedu.edudex.commons.util.FileUtil;
+import seedu.edudex.model.ReadOnlyEduDex;
+
+/**
+ * A class to access EduDex data stored as a single file on the hard disk, in a format defined by its subclass.
+ *
+ * Each save replaces the data file atomically, and keeps the previous data file as a backup next to it. If the data
+ * file is missing or cannot be loaded, the backup is loaded instead.
+ *
+ * Files in any {@link DataFileFormat} are read, whatever the format of this storage, so that changing the format in
+ * the preferences does not lose the data. Such files are converted to the format of this storage when next written.
+ */
+public abstract class FileEduDexStorage implements EduDexStorage {
+
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    private static final Logger logger = LogsCenter.getLogger(FileEduDexStorage.class);
+
+    private Path filePath;
+
+    /**
+     * Data files that could not be loaded, so their backups were loaded instead. The next save to such a file must
+     * not move it over its backup, which is the only good copy of the data.
+     */
+    private final Set<Path> filesLoadedFromBackup = ConcurrentHashMap.newKeySet();
+
+    protected FileEduDexStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getEduDexFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the backup kept when saving to {@code dataFilePath}.
+     */
+    public static Path getBackupFilePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyEduDex> readEduDex() throws DataLoadingException {
+        return readEduDex(filePath);
+    }
+
+    /**
+     * Similar to {@link #readEduDex()}.
+     * Falls back to the backup of {@code filePath} if {@code filePath} is missing or cannot be loaded.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed, and there is no backup to load.
+     */
+    @Override
+    public Optional<ReadOnlyEduDex> readEduDex(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path backupFilePath = getBackupFilePath(filePath);
+        Optional<ReadOnlyEduDex> eduDex;
+        try {
+            eduDex = readEduDexFile(filePath);
+        } catch (DataLoadingException e) {
+            if (!FileUtil.isFileExists(backupFilePath)) {
+                throw e;
+            }
+            logger.warning("Data file " + filePath + " could not be loaded, loading backup " + backupFilePath);
+            Optional<ReadOnlyEduDex> backup = readBackupFile(backupFilePath, e);
+            filesLoadedFromBackup.add(filePath);
+            return backup;
+        }
+        if (eduDex.isEmpty() && FileUtil.isFileExists(backupFilePath)) {
+            logger.warning("Data file " + filePath + " is missing, loading backup " + backupFilePath);
+            return readEduDexFile(backupFilePath);
+        }
+        return eduDex;
+    }
+
+    /**
+     * Reads {@code backupFilePath}, throwing {@code originalFailure} if it cannot be loaded either.
+     */
+    private Optional<ReadOnlyEduDex> readBackupFile(Path backupFilePath, DataLoadingException originalFailure)
+            throws DataLoadingException {
+        try {
+            return readEduDexFile(backupFilePath);
+        } catch (DataLoadingException e) {
+            logger.warning("Backup " + backupFilePath + " could not be loaded either");
+            originalFailure.addSuppressed(e);
+            throw originalFailure;
+        }
+    }
+
+    /**
+     * Reads {@code filePath} with the {@link #readDataFile(Path)} of the storage for its format, returning an empty
+     * {@code Optional} if it does not exist.
+     */
+    private Optional<ReadOnlyEduDex> readEduDexFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Data file " + filePath + " found.");
+
+        try {
+            EduDexLoadEvent event = new EduDexLoadEvent();
+            event.begin();
+            DataFileFormat fileFormat = EduDexStorageConverter.detectFormat(filePath);
+            FileEduDexStorage fileStorage = this;
+            if (fileFormat != getFormat()) {
+                logger.warning("Data file " + filePath + " is in " + fileFormat + " format rather than " + getFormat()
+                        + ", it will be converted when next written.");
+                fileStorage = EduDexStorageConverter.createStorage(filePath, fileFormat);
+            }
+            ReadOnlyEduDex eduDex = fileStorage.readDataFile(filePath);
+            if (event.shouldCommit()) {
+                event.set(fileStorage, filePath, eduDex, Files.size(filePath));
+                event.commit();
+            }
+            return Optional.of(eduDex);
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveEduDex(ReadOnlyEduDex eduDex) throws IOException {
+        saveEduDex(eduDex, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveEduDex(ReadOnlyEduDex)}.
+     * The previous content of {@code filePath} is kept as its backup, unless it could not be loaded when last read.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveEduDex(ReadOnlyEduDex eduDex, Path filePath) throws IOException {
+        requireNonNull(eduDex);
+        requireNonNull(filePath);
+
+        EduDexSaveEvent event = new EduDexSaveEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        // a data file that could not be loaded is replaced without being kept, so that it does not replace the backup
+        boolean isKeepingBackup = !filesLoadedFromBackup.contains(filePath);
+        long byteCount = FileUtil.writeToFile(filePath, isKeepingBackup ? getBackupFilePath(filePath) : null, out ->
+                writeDataFile(eduDex, out));
+        filesLoadedFromBackup.remove(filePath);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        if (event.shouldCommit()) {
+            event.set(this, filePath, eduDex, byteCount);
+            event.commit();
+        }
+        logger.info("Saved " + byteCount + " bytes to " + filePath + " in " + elapsedMillis + " ms");
+    }
+
+    /**
+     * Returns the format of the data files written by this storage.
+     */
+    protected abstract DataFileFormat getFormat();
+
+    /**
+     * Reads the EduDex stored in {@code file}, which exists.
+     *
+     * @throws IOException if {@code file} could not be read or is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    protected abstract ReadOnlyEduDex readDataFile(Path file) throws IOException, IllegalValueException;
+
+    /**
+     * Writes {@code eduDex} to {@code out}, without closing it.
+     */
+    protected abstract void writeDataFile(ReadOnlyEduDex eduDex, OutputStream out) throws IOException;
+
+}
@@ -0,0 +1,308 @@
+package seedu.edudex.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.edudex.commons.core.LogsCenter;
+import seedu.edudex.commons.exceptions.DataLoadingException;
+import seedu.edudex.commons.exceptions.IllegalValueException;
+import seedu.edudex.commons.util.FileUtil;
+import seedu.edudex.commons.util.JsonUtil;
+import seedu.edudex.model.EduDex;
+import seedu.edudex.model.ReadOnlyEduDex;
+import seedu.edudex.model.person.Person;
+import seedu.edudex.model.person.exceptions.DuplicatePersonException;
+import seedu.edudex.model.subject.Subject;
+import seedu.edudex.model.subject.exceptions.DuplicateSubjectException;
+
+/**
+ * A class to access EduDex data stored as a json snapshot file together with a journal of the changes made since.
+ *
+ * Each save appends only the ranges of the persons and subjects lists that changed since the previous save, as
+ * compact json lines in a journal file next to the snapshot. Once the journal holds enough records, the full data is
+ * written to the snapshot and the journal is restarted. Reading replays the journal on top of the snapshot.
+ *
+ * The journal starts with the checksum of the snapshot it applies to, so a journal left behind by an interrupted
+ * compaction is recognised as already contained in the snapshot, and ignored.
+ *
+ * Changes are found by comparing the lists with those of the previous save by reference, which relies on persons and
+ * subjects in EduDex being replaced rather than modified in place.
+ */
+public class JournaledEduDexStorage implements EduDexStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledEduDexStorage.class);
+
+    private final FileEduDexStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+
+    private List<Person> savedPersons;
+    private List<Subject> savedSubjects;
+    private int journalRecordCount;
+
+    /**
+     * Creates a {@code JournaledEduDexStorage} keeping its snapshot at {@code filePath}, that compacts the journal
+     * into the snapshot once it holds {@code compactionThreshold} records.
+     */
+    public JournaledEduDexStorage(Path filePath, int compactionThreshold) {
+        this(new JsonEduDexStorage(requireNonNull(filePath)), compactionThreshold);
+    }
+
+    /**
+     * Creates a {@code JournaledEduDexStorage} keeping its snapshot in {@code snapshotStorage}, that compacts the
+     * journal into the snapshot once it holds {@code compactionThreshold} records.
+     */
+    public JournaledEduDexStorage(FileEduDexStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        Path filePath = snapshotStorage.getEduDexFilePath();
+        this.snapshotStorage = snapshotStorage;
+        this.journalFilePath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.compactionThreshold = Math.max(1, compactionThreshold);
+    }
+
+    @Override
+    public Path getEduDexFilePath() {
+        return snapshotStorage.getEduDexFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyEduDex> readEduDex() throws DataLoadingException {
+        return readEduDex(getEduDexFilePath());
+    }
+
+    /**
+     * Similar to {@link #readEduDex()}. The journal is only replayed when reading from this storage's own file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyEduDex> readEduDex(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyEduDex> snapshot = snapshotStorage.readEduDex(filePath);
+        if (!filePath.equals(getEduDexFilePath()) || snapshot.isEmpty()) {
+            return snapshot;
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        List<Subject> subjects = new ArrayList<>(snapshot.get().getSubjectList());
+        journalRecordCount = replayJournal(persons, subjects);
+
+        EduDex eduDex = new EduDex();
+        try {
+            eduDex.setSubjects(subjects);
+            eduDex.setPersons(persons);
+        } catch (DuplicatePersonException | DuplicateSubjectException e) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+        savedPersons = persons;
+        savedSubjects = subjects;
+        return Optional.of(eduDex);
+    }
+
+    @Override
+    public void saveEduDex(ReadOnlyEduDex eduDex) throws IOException {
+        saveEduDex(eduDex, getEduDexFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveEduDex(ReadOnlyEduDex)}. Saving to any file other than this storage's own file writes a
+     * full snapshot there, and leaves the journal untouched.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveEduDex(ReadOnlyEduDex eduDex, Path filePath) throws IOException {
+        requireNonNull(eduDex);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getEduDexFilePath())) {
+            snapshotStorage.saveEduDex(eduDex, filePath);
+            return;
+        }
+        if (savedPersons == null || journalRecordCount >= compactionThreshold) {
+            compact(eduDex);
+            return;
+        }
+
+        List<Person> persons = new ArrayList<>(eduDex.getPersonList());
+        List<Subject> subjects = new ArrayList<>(eduDex.getSubjectList());
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        Optional<ChangedRange> changedPersons = ChangedRange.between(savedPersons, persons);
+        if (changedPersons.isPresent()) {
+            ChangedRange range = changedPersons.get();
+            records.add(JsonAdaptedJournalRecord.forPersons(range.start, range.getRemovedCount(),
+                    persons.subList(range.start, range.newEnd)));
+        }
+        Optional<ChangedRange> changedSubjects = ChangedRange.between(savedSubjects, subjects);
+        if (changedSubjects.isPresent()) {
+            ChangedRange range = changedSubjects.get();
+            records.add(JsonAdaptedJournalRecord.forSubjects(range.start, range.getRemovedCount(),
+                    subjects.subList(range.start, range.newEnd)));
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        Files.write(journalFilePath, lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        journalRecordCount += records.size();
+        savedPersons = persons;
+        savedSubjects = subjects;
+    }
+
+    /**
+     * Writes all of {@code eduDex} to the snapshot file, and restarts the journal from it.
+     */
+    private void compact(ReadOnlyEduDex eduDex) throws IOException {
+        logger.fine("Compacting journal " + journalFilePath + " into " + getEduDexFilePath());
+        snapshotStorage.saveEduDex(eduDex, getEduDexFilePath());
+
+        long checksum = computeChecksum(getEduDexFilePath());
+        String header = JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.forSnapshot(checksum)) + '\n';
+        FileUtil.writeToFile(journalFilePath, header);
+
+        journalRecordCount = 0;
+        savedPersons = new ArrayList<>(eduDex.getPersonList());
+        savedSubjects = new ArrayList<>(eduDex.getSubjectList());
+    }
+
+    /**
+     * Applies the records of the journal to {@code persons} and {@code subjects}, returning the number of records
+     * applied. A journal that is missing or belongs to another snapshot is ignored, as is an incomplete last record
+     * left by an interrupted save.
+     *
+     * @throws DataLoadingException if the journal could not be read or holds invalid records.
+     */
+    private int replayJournal(List<Person> persons, List<Subject> subjects) throws DataLoadingException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return 0;
+        }
+        if (!FileUtil.isFileExists(getEduDexFilePath())) {
+            logger.info("Data file " + getEduDexFilePath() + " was restored from its backup, ignoring journal.");
+            return 0;
+        }
+
+        List<String> lines;
+        long snapshotChecksum;
+        try {
+            lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+            snapshotChecksum = computeChecksum(getEduDexFilePath());
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        if (lines.isEmpty() || !isJournalOfSnapshot(lines.get(0), snapshotChecksum)) {
+            logger.info("Journal " + journalFilePath + " does not belong to the current data file, ignoring it.");
+            return 0;
+        }
+
+        int appliedCount = 0;
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last record of journal " + journalFilePath);
+                    // compact on the next save, so that no record is appended after the incomplete one
+                    return Math.max(appliedCount, compactionThreshold);
+                }
+                logger.warning("Error reading record " + i + " of journal " + journalFilePath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+
+            try {
+                record.applyTo(persons, subjects);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            appliedCount++;
+        }
+        logger.info("Replayed " + appliedCount + " journal records from " + journalFilePath);
+        return appliedCount;
+    }
+
+    private static boolean isJournalOfSnapshot(String headerLine, long snapshotChecksum) {
+        try {
+            JsonAdaptedJournalRecord header = JsonUtil.fromJsonString(headerLine, JsonAdaptedJournalRecord.class);
+            return header.isSnapshotRecord() && Long.valueOf(snapshotChecksum).equals(header.getSnapshotChecksum());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static long computeChecksum(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(file));
+        return crc.getValue();
+    }
+
+    /**
+     * The range of a list that changed between two saves.
+     */
+    private static class ChangedRange {
+        /** Index of the first changed element in both lists. */
+        private final int start;
+        /** End of the changed range in the old list. */
+        private final int oldEnd;
+        /** End of the changed range in the new list. */
+        private final int newEnd;
+
+        private ChangedRange(int start, int oldEnd, int newEnd) {
+            this.start = start;
+            this.oldEnd = oldEnd;
+            this.newEnd = newEnd;
+        }
+
+        int getRemovedCount() {
+            return oldEnd - start;
+        }
+
+        /**
+         * Compares {@code oldList} and {@code newList} by reference, and returns the smallest range that differs
+         * between them. Returns an empty {@code Optional} if the lists hold the same elements.
+         */
+        static <T> Optional<ChangedRange> between(List<T> oldList, List<T> newList) {
+            int shorterSize = Math.min(oldList.size(), newList.size());
+            int commonPrefix = 0;
+            while (commonPrefix < shorterSize && oldList.get(commonPrefix) == newList.get(commonPrefix)) {
+                commonPrefix++;
+            }
+            if (commonPrefix == oldList.size() && commonPrefix == newList.size()) {
+                return Optional.empty();
+            }
+
+            int commonSuffix = 0;
+            while (commonSuffix < shorterSize - commonPrefix && oldList.get(oldList.size() - 1 - commonSuffix)
+                    == newList.get(newList.size() - 1 - commonSuffix)) {
+                commonSuffix++;
+            }
+            return Optional.of(new ChangedRange(commonPrefix, oldList.size() - commonSuffix,
+                    newList.size() - commonSuffix));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.edudex.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.edudex.commons.exceptions.IllegalValueException;
+import seedu.edudex.model.person.Person;
+import seedu.edudex.model.subject.Subject;
+
+/**
+ * Jackson-friendly version of a single line of the EduDex journal.
+ *
+ * The first record of a journal identifies the snapshot the journal applies to. Every later record replaces a range
+ * of the persons or subjects list with new entries.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonAdaptedJournalRecord {
+
+    public static final String TYPE_SNAPSHOT = "snapshot";
+    public static final String TYPE_PERSONS = "persons";
+    public static final String TYPE_SUBJECTS = "subjects";
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+    public static final String MESSAGE_RANGE_OUT_OF_BOUNDS = "Journal record does not match the data it applies to.";
+
+    private final String type;
+    private final Long snapshotChecksum;
+    private final int index;
+    private final int removed;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<JsonAdaptedSubject> subjects = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("type") String type,
+            @JsonProperty("snapshotChecksum") Long snapshotChecksum,
+            @JsonProperty("index") int index, @JsonProperty("removed") int removed,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("subjects") List<JsonAdaptedSubject> subjects) {
+        this.type = type;
+        this.snapshotChecksum = snapshotChecksum;
+        this.index = index;
+        this.removed = removed;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (subjects != null) {
+            this.subjects.addAll(subjects);
+        }
+    }
+
+    /**
+     * Returns a record marking the start of a journal that applies to the snapshot with {@code snapshotChecksum}.
+     */
+    public static JsonAdaptedJournalRecord forSnapshot(long snapshotChecksum) {
+        return new JsonAdaptedJournalRecord(TYPE_SNAPSHOT, snapshotChecksum, 0, 0, null, null);
+    }
+
+    /**
+     * Returns a record replacing {@code removed} persons starting at {@code index} with {@code added}.
+     */
+    public static JsonAdaptedJournalRecord forPersons(int index, int removed, List<Person> added) {
+        return new JsonAdaptedJournalRecord(TYPE_PERSONS, null, index, removed,
+                added.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()), null);
+    }
+
+    /**
+     * Returns a record replacing {@code removed} subjects starting at {@code index} with {@code added}.
+     */
+    public static JsonAdaptedJournalRecord forSubjects(int index, int removed, List<Subject> added) {
+        return new JsonAdaptedJournalRecord(TYPE_SUBJECTS, null, index, removed, null,
+                added.stream().map(JsonAdaptedSubject::new).collect(Collectors.toList()));
+    }
+
+    public boolean isSnapshotRecord() {
+        return TYPE_SNAPSHOT.equals(type);
+    }
+
+    public Long getSnapshotChecksum() {
+        return snapshotChecksum;
+    }
+
+    /**
+     * Applies the change recorded by this record to {@code targetPersons} and {@code targetSubjects}.
+     *
+     * @throws IllegalValueException if the record is malformed, does not fit the lists, or holds invalid data.
+     */
+    public void applyTo(List<Person> targetPersons, List<Subject> targetSubjects) throws IllegalValueException {
+        if (TYPE_PERSONS.equals(type)) {
+            List<Person> addedPersons = new ArrayList<>();
+            for (JsonAdaptedPerson person : persons) {
+                addedPersons.add(person.toModelType());
+            }
+            splice(targetPersons, addedPersons);
+        } else if (TYPE_SUBJECTS.equals(type)) {
+            List<Subject> addedSubjects = new ArrayList<>();
+            for (JsonAdaptedSubject subject : subjects) {
+                addedSubjects.add(subject.toModelType());
+            }
+            splice(targetSubjects, addedSubjects);
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, type));
+        }
+    }
+
+    private <T> void splice(List<T> target, List<T> added) throws IllegalValueException {
+        if (index < 0 || removed < 0 || index + removed > target.size()) {
+            throw new IllegalValueException(MESSAGE_RANGE_OUT_OF_BOUNDS);
+        }
+        List<T> removedRange = target.subList(index, index + removed);
+        removedRange.clear();
+        removedRange.addAll(added);
+    }
+}
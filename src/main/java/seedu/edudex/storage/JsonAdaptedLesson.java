@@ -81,10 +81,10 @@ public class JsonAdaptedLesson {
             throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
         }
 
-        Subject modelSubject = new Subject(subject);
-        Day modelDay = new Day(day);
-        Time modelStartTime = new Time(startTime);
-        Time modelEndTime = new Time(endTime);
+        Subject modelSubject = Subject.of(subject);
+        Day modelDay = Day.of(day);
+        Time modelStartTime = Time.of(startTime);
+        Time modelEndTime = Time.of(endTime);
         return new Lesson(modelSubject, modelDay, modelStartTime, modelEndTime);
     }
 }
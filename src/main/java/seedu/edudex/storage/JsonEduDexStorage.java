@@ -1,80 +1,46 @@
 package seedu.edudex.storage;
 
-import static java.util.Objects.requireNonNull;
-
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
-import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.edudex.commons.core.LogsCenter;
-import seedu.edudex.commons.exceptions.DataLoadingException;
+import seedu.edudex.commons.core.DataFileFormat;
 import seedu.edudex.commons.exceptions.IllegalValueException;
-import seedu.edudex.commons.util.FileUtil;
-import seedu.edudex.commons.util.JsonUtil;
 import seedu.edudex.model.ReadOnlyEduDex;
 
 /**
  * A class to access EduDex data stored as a json file on the hard disk.
  */
-public class JsonEduDexStorage implements EduDexStorage {
-
-    private static final Logger logger = LogsCenter.getLogger(JsonEduDexStorage.class);
+public class JsonEduDexStorage extends FileEduDexStorage {
 
-    private Path filePath;
+    private final boolean isCompact;
 
     public JsonEduDexStorage(Path filePath) {
-        this.filePath = filePath;
-    }
-
-    public Path getEduDexFilePath() {
-        return filePath;
-    }
-
-    @Override
-    public Optional<ReadOnlyEduDex> readEduDex() throws DataLoadingException {
-        return readEduDex(filePath);
+        this(filePath, false);
     }
 
     /**
-     * Similar to {@link #readEduDex()}.
-     *
-     * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * Creates a {@code JsonEduDexStorage} at {@code filePath}, that writes json without indentation if
+     * {@code isCompact} is true.
      */
-    public Optional<ReadOnlyEduDex> readEduDex(Path filePath) throws DataLoadingException {
-        requireNonNull(filePath);
-
-        Optional<JsonSerializableEduDex> jsonEduDex = JsonUtil.readJsonFile(
-                filePath, JsonSerializableEduDex.class);
-        if (!jsonEduDex.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonEduDex.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
-        }
+    public JsonEduDexStorage(Path filePath, boolean isCompact) {
+        super(filePath);
+        this.isCompact = isCompact;
     }
 
     @Override
-    public void saveEduDex(ReadOnlyEduDex eduDex) throws IOException {
-        saveEduDex(eduDex, filePath);
+    protected DataFileFormat getFormat() {
+        return DataFileFormat.JSON;
     }
 
-    /**
-     * Similar to {@link #saveEduDex(ReadOnlyEduDex)}.
-     *
-     * @param filePath location of the data. Cannot be null.
-     */
-    public void saveEduDex(ReadOnlyEduDex eduDex, Path filePath) throws IOException {
-        requireNonNull(eduDex);
-        requireNonNull(filePath);
+    @Override
+    protected ReadOnlyEduDex readDataFile(Path file) throws IOException, IllegalValueException {
+        return JsonEduDexStreamReader.read(file);
+    }
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableEduDex(eduDex), filePath);
+    @Override
+    protected void writeDataFile(ReadOnlyEduDex eduDex, OutputStream out) throws IOException {
+        JsonEduDexStreamWriter.write(eduDex, out, !isCompact);
     }
 
 }
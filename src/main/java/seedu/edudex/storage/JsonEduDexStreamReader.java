@@ -0,0 +1,103 @@
+package seedu.edudex.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.edudex.commons.exceptions.IllegalValueException;
+import seedu.edudex.commons.util.JsonUtil;
+import seedu.edudex.model.EduDex;
+import seedu.edudex.model.subject.Subject;
+
+/**
+ * Reads EduDex data from a json file in the format written by {@link JsonSerializableEduDex}, converting persons
+ * and subjects into the model as they are read.
+ *
+ * Unlike reading the whole file into a {@code JsonSerializableEduDex}, neither the file content nor all the adapted
+ * persons are held in memory at once. Persons are read in batches, and each batch is converted on all cores, so
+ * memory use while loading is bounded by a single batch of records besides the {@code EduDex} being built.
+ */
+class JsonEduDexStreamReader {
+
+    static final String PERSONS_FIELD = "persons";
+    static final String SUBJECTS_FIELD = "subjects";
+
+    private JsonEduDexStreamReader() {}
+
+    /**
+     * Reads the EduDex stored in {@code file}. A missing persons or subjects list is read as an empty list.
+     *
+     * @throws IOException if {@code file} could not be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static EduDex read(Path file) throws IOException, IllegalValueException {
+        EduDex eduDex = new EduDex();
+        try (JsonParser parser = JsonUtil.createParser(file)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueStart = parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName)) {
+                    expect(parser, valueStart, JsonToken.START_ARRAY);
+                    readPersons(parser, eduDex);
+                } else if (SUBJECTS_FIELD.equals(fieldName)) {
+                    expect(parser, valueStart, JsonToken.START_ARRAY);
+                    readSubjects(parser, eduDex);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        }
+        return eduDex;
+    }
+
+    /**
+     * Reads the persons array that {@code parser} is at the start of into {@code eduDex}. Persons are read in
+     * batches, and the persons of each batch are converted in parallel.
+     */
+    private static void readPersons(JsonParser parser, EduDex eduDex) throws IOException, IllegalValueException {
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+            if (batch.size() == ParallelRecordConverter.BATCH_SIZE) {
+                addPersons(batch, eduDex);
+                batch.clear();
+            }
+        }
+        addPersons(batch, eduDex);
+    }
+
+    /**
+     * Converts {@code persons} to the model, and adds them to {@code eduDex} in order.
+     */
+    static void addPersons(List<JsonAdaptedPerson> persons, EduDex eduDex) throws IllegalValueException {
+        ParallelRecordConverter.convertInOrder(persons, JsonAdaptedPerson::toModelType, person -> {
+            if (eduDex.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableEduDex.MESSAGE_DUPLICATE_PERSON);
+            }
+            eduDex.addPerson(person);
+        });
+    }
+
+    private static void readSubjects(JsonParser parser, EduDex eduDex) throws IOException, IllegalValueException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            Subject subject = JsonUtil.readValue(parser, JsonAdaptedSubject.class).toModelType();
+            if (eduDex.hasSubject(subject)) {
+                throw new IllegalValueException(JsonSerializableEduDex.MESSAGE_DUPLICATE_SUBJECT);
+            }
+            eduDex.addSubject(subject);
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.edudex.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.edudex.commons.util.JsonUtil;
+import seedu.edudex.model.ReadOnlyEduDex;
+import seedu.edudex.model.person.Person;
+import seedu.edudex.model.subject.Subject;
+
+/**
+ * Writes EduDex data as json in the format read by {@link JsonEduDexStreamReader}, adapting and writing one person
+ * or subject at a time.
+ *
+ * Unlike serializing a {@code JsonSerializableEduDex} into a string, neither the adapted persons nor the whole
+ * document are held in memory all at once.
+ */
+class JsonEduDexStreamWriter {
+
+    private JsonEduDexStreamWriter() {}
+
+    /**
+     * Writes {@code eduDex} to {@code out}, indented if {@code isPretty} is true. Does not close {@code out}.
+     */
+    static void write(ReadOnlyEduDex eduDex, OutputStream out, boolean isPretty) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isPretty)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(JsonEduDexStreamReader.PERSONS_FIELD);
+            for (Person person : eduDex.getPersonList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart(JsonEduDexStreamReader.SUBJECTS_FIELD);
+            for (Subject subject : eduDex.getSubjectList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedSubject(subject));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
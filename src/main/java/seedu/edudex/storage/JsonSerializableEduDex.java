@@ -11,7 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.edudex.commons.exceptions.IllegalValueException;
 import seedu.edudex.model.EduDex;
 import seedu.edudex.model.ReadOnlyEduDex;
-import seedu.edudex.model.person.Person;
 import seedu.edudex.model.subject.Subject;
 
 /**
@@ -48,6 +47,7 @@ class JsonSerializableEduDex {
 
     /**
      * Converts this EduDex into the model's {@code EduDex} object.
+     * Persons are converted in parallel, but added, and checked for errors, in the order they are stored.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
@@ -61,13 +61,12 @@ class JsonSerializableEduDex {
             eduDex.addSubject(subject);
         }
 
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+        ParallelRecordConverter.convertInOrder(persons, JsonAdaptedPerson::toModelType, person -> {
             if (eduDex.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
             eduDex.addPerson(person);
-        }
+        });
         return eduDex;
     }
 
@@ -0,0 +1,78 @@
+package seedu.edudex.storage;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.IntStream;
+
+import seedu.edudex.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts stored records, such as {@code JsonAdaptedPerson}s, into model objects on all available cores, while
+ * handing the results on in the order of the records.
+ *
+ * Errors are reported as if the records were converted one at a time: the records before the first invalid one are
+ * handed on, and then the error of the first invalid record is thrown.
+ */
+class ParallelRecordConverter {
+
+    /** Below this number of records, converting in parallel costs more than it saves. */
+    static final int PARALLEL_THRESHOLD = 1024;
+
+    /** The number of records read before converting them, so that only a batch of records is held at once. */
+    static final int BATCH_SIZE = 8192;
+
+    private ParallelRecordConverter() {}
+
+    /**
+     * Converts {@code records} with {@code converter}, and hands each result to {@code receiver} in the order of
+     * {@code records}.
+     *
+     * @throws IllegalValueException the error of the first record that could not be converted, or the first error
+     *     thrown by {@code receiver}, whichever comes first in the order of {@code records}.
+     */
+    static <R, M> void convertInOrder(List<R> records, Converter<R, M> converter, Receiver<M> receiver)
+            throws IllegalValueException {
+        if (records.size() < PARALLEL_THRESHOLD) {
+            for (R record : records) {
+                receiver.accept(converter.convert(record));
+            }
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        M[] results = (M[]) new Object[records.size()];
+        Map<Integer, IllegalValueException> failures = new ConcurrentSkipListMap<>();
+        IntStream.range(0, records.size()).parallel().forEach(i -> {
+            try {
+                results[i] = converter.convert(records.get(i));
+            } catch (IllegalValueException e) {
+                failures.put(i, e);
+            }
+        });
+
+        int firstFailure = failures.isEmpty() ? results.length : failures.keySet().iterator().next();
+        for (int i = 0; i < firstFailure; i++) {
+            receiver.accept(results[i]);
+        }
+        if (firstFailure < results.length) {
+            throw failures.get(firstFailure);
+        }
+    }
+
+    /**
+     * Converts a stored record into a model object.
+     */
+    @FunctionalInterface
+    interface Converter<R, M> {
+        M convert(R record) throws IllegalValueException;
+    }
+
+    /**
+     * Receives converted model objects.
+     */
+    @FunctionalInterface
+    interface Receiver<M> {
+        void accept(M modelObject) throws IllegalValueException;
+    }
+}
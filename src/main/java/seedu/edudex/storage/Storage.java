@@ -29,4 +29,17 @@ public interface Storage extends EduDexStorage, UserPrefsStorage {
     @Override
     void saveEduDex(ReadOnlyEduDex eduDex) throws IOException;
 
+    /**
+     * Throws the failure of an earlier save of EduDex data that completed in the background, if any.
+     * A failure is only thrown once.
+     */
+    void checkSaveFailure() throws IOException;
+
+    /**
+     * Waits until all earlier saves of EduDex data are written.
+     *
+     * @throws IOException if any of those saves failed.
+     */
+    void flush() throws IOException;
+
 }
@@ -1,18 +1,29 @@
 package seedu.edudex.storage;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 import seedu.edudex.commons.core.LogsCenter;
 import seedu.edudex.commons.exceptions.DataLoadingException;
+import seedu.edudex.model.EduDexSnapshot;
 import seedu.edudex.model.ReadOnlyEduDex;
 import seedu.edudex.model.ReadOnlyUserPrefs;
 import seedu.edudex.model.UserPrefs;
 
 /**
  * Manages storage of EduDex data in local storage.
+ *
+ * In asynchronous mode, saving EduDex data to its data file only takes a snapshot of the data, which a background
+ * thread then writes. Snapshots saved while an earlier one is still waiting to be written replace it, so a burst of
+ * saves results in a single write of the latest data. A failed write is reported by the next call to
+ * {@link #saveEduDex(ReadOnlyEduDex)}, {@link #checkSaveFailure()} or {@link #flush()}.
  */
 public class StorageManager implements Storage {
 
@@ -20,12 +31,32 @@ public class StorageManager implements Storage {
     private EduDexStorage eduDexStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    /** Writes EduDex snapshots in the background, or null if saving is synchronous. */
+    private final ExecutorService writer;
+    /** The latest snapshot that is not yet being written. */
+    private final AtomicReference<ReadOnlyEduDex> pendingSnapshot = new AtomicReference<>();
+    /** The failure of a background write that has not been reported yet. */
+    private final AtomicReference<IOException> saveFailure = new AtomicReference<>();
+
     /**
      * Creates a {@code StorageManager} with the given {@code EduDexStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(EduDexStorage eduDexStorage, UserPrefsStorage userPrefsStorage) {
+        this(eduDexStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code EduDexStorage} and {@code UserPrefStorage}, that writes
+     * EduDex data to its data file on a background thread if {@code isAsynchronous} is true.
+     */
+    public StorageManager(EduDexStorage eduDexStorage, UserPrefsStorage userPrefsStorage, boolean isAsynchronous) {
         this.eduDexStorage = eduDexStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.writer = isAsynchronous ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "EduDex storage writer");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -58,8 +89,16 @@ public class StorageManager implements Storage {
         return readEduDex(eduDexStorage.getEduDexFilePath());
     }
 
+    /**
+     * Reads the data from {@code filePath}, after writing any snapshot still waiting to be saved.
+     */
     @Override
     public Optional<ReadOnlyEduDex> readEduDex(Path filePath) throws DataLoadingException {
+        try {
+            flush();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
         logger.fine("Attempting to read data from file: " + filePath);
         return eduDexStorage.readEduDex(filePath);
     }
@@ -69,10 +108,74 @@ public class StorageManager implements Storage {
         saveEduDex(eduDex, eduDexStorage.getEduDexFilePath());
     }
 
+    /**
+     * Saves {@code eduDex} to {@code filePath}. In asynchronous mode, saving to the data file returns once a
+     * snapshot of {@code eduDex} is taken, while saving to any other file waits for earlier saves to be written first.
+     *
+     * @throws IOException if writing {@code eduDex} fails, or an earlier background write failed.
+     */
     @Override
     public void saveEduDex(ReadOnlyEduDex eduDex, Path filePath) throws IOException {
+        if (writer == null) {
+            logger.fine("Attempting to write to data file: " + filePath);
+            eduDexStorage.saveEduDex(eduDex, filePath);
+            return;
+        }
+        if (!filePath.equals(eduDexStorage.getEduDexFilePath())) {
+            flush();
+            logger.fine("Attempting to write to data file: " + filePath);
+            eduDexStorage.saveEduDex(eduDex, filePath);
+            return;
+        }
+
+        checkSaveFailure();
+        if (pendingSnapshot.getAndSet(new EduDexSnapshot(eduDex)) == null) {
+            writer.execute(this::writePendingSnapshot);
+        } else {
+            logger.fine("Replacing unwritten snapshot of data file: " + filePath);
+        }
+    }
+
+    @Override
+    public void checkSaveFailure() throws IOException {
+        IOException failure = saveFailure.getAndSet(null);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (writer != null) {
+            try {
+                writer.submit(() -> { }).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for data file to be written");
+            } catch (ExecutionException e) {
+                throw new IOException(e.getCause());
+            }
+        }
+        checkSaveFailure();
+    }
+
+    /**
+     * Writes the latest pending snapshot to the data file, unless it was already written by an earlier call.
+     * Runs on the background writer thread.
+     */
+    private void writePendingSnapshot() {
+        ReadOnlyEduDex snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        Path filePath = eduDexStorage.getEduDexFilePath();
         logger.fine("Attempting to write to data file: " + filePath);
-        eduDexStorage.saveEduDex(eduDex, filePath);
+        try {
+            eduDexStorage.saveEduDex(snapshot, filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to write to data file " + filePath + ": " + e);
+            saveFailure.set(e);
+        }
     }
 
 }
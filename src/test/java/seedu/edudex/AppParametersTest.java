@@ -39,10 +39,42 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validScriptPath_success() {
+        parametersStub.namedParameters.put("script", "lessons.txt");
+        expected.setScriptPath(Paths.get("lessons.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_success() {
+        parametersStub.namedParameters.put("script", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_apiPort_validPortsAccepted() {
+        expected.setApiPort(8080);
+        assertEquals(expected, AppParameters.parse(new String[] {"--api-port=8080"}));
+
+        expected.setApiPort(null);
+        assertEquals(expected, AppParameters.parse(new String[] {"--api-port=65536"}));
+        assertEquals(expected, AppParameters.parse(new String[] {"--api-port=http"}));
+    }
+
+    @Test
+    public void parse_commandLineArguments_namedParametersRead() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScriptPath(Paths.get("a=b.txt"));
+        assertEquals(expected, AppParameters.parse(new String[] {"--headless", "--config=config.json", "script=x",
+            "--script=a=b.txt", "--=c"}));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", scriptPath=" + appParameters.getScriptPath() + ", apiPort=" + appParameters.getApiPort() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +98,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(Paths.get("scriptPath"));
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
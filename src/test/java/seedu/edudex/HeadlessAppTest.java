@@ -0,0 +1,83 @@
+package seedu.edudex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.edudex.testutil.TypicalPersons.HOON;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edudex.logic.LogicManager;
+import seedu.edudex.logic.Messages;
+import seedu.edudex.logic.commands.AddCommand;
+import seedu.edudex.logic.commands.ExitCommand;
+import seedu.edudex.logic.commands.ListCommand;
+import seedu.edudex.logic.commands.RunCommand;
+import seedu.edudex.model.Model;
+import seedu.edudex.model.ModelManager;
+import seedu.edudex.storage.JsonEduDexStorage;
+import seedu.edudex.storage.JsonUserPrefsStorage;
+import seedu.edudex.storage.StorageManager;
+import seedu.edudex.testutil.PersonUtil;
+import seedu.edudex.ui.HelpWindow;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(new JsonEduDexStorage(temporaryFolder.resolve("eduDex.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        app = new HeadlessApp(new LogicManager(model, storage));
+    }
+
+    @Test
+    public void run_commands_resultsPrintedUntilExit() throws Exception {
+        String input = String.join("\n", PersonUtil.getAddCommand(HOON), "", "unknownCommand", "help",
+                ExitCommand.COMMAND_WORD, ListCommand.COMMAND_WORD);
+        app.run(new BufferedReader(new StringReader(input)), out);
+
+        List<String> expectedOutput = List.of(String.format(AddCommand.MESSAGE_SUCCESS,
+                Messages.format(HOON)), MESSAGE_UNKNOWN_COMMAND, HelpWindow.HELP_MESSAGE,
+                ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT);
+        assertEquals(expectedOutput, output.toString(StandardCharsets.UTF_8).lines().toList());
+        assertTrue(model.hasPerson(HOON));
+    }
+
+    @Test
+    public void runScript_failingScript_returnsFalse() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(PersonUtil.getAddCommand(HOON), "unknownCommand"));
+
+        assertFalse(app.runScript(script, out));
+        assertFalse(model.hasPerson(HOON));
+        assertTrue(output.toString(StandardCharsets.UTF_8).startsWith(
+                String.format(RunCommand.MESSAGE_LINE_FAILED, 2, MESSAGE_UNKNOWN_COMMAND, 1)));
+    }
+
+    @Test
+    public void isHeadless() {
+        assertTrue(HeadlessApp.isHeadless(new String[] {HeadlessApp.HEADLESS_FLAG}));
+        assertTrue(HeadlessApp.isHeadless(new String[] {"--config=config.json", "--script=lessons.txt"}));
+        assertFalse(HeadlessApp.isHeadless(new String[] {"--config=config.json"}));
+    }
+}
@@ -0,0 +1,207 @@
+package seedu.edudex.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.testutil.TypicalPersons.ALICE;
+import static seedu.edudex.testutil.TypicalPersons.getTypicalEduDex;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edudex.commons.util.JsonUtil;
+import seedu.edudex.logic.LogicManager;
+import seedu.edudex.model.EduDexSnapshot;
+import seedu.edudex.model.Model;
+import seedu.edudex.model.ModelManager;
+import seedu.edudex.model.UserPrefs;
+import seedu.edudex.model.subject.Subject;
+import seedu.edudex.storage.JsonEduDexStorage;
+import seedu.edudex.storage.JsonUserPrefsStorage;
+import seedu.edudex.storage.StorageManager;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalEduDex(), new UserPrefs());
+    private final HttpClient client = HttpClient.newHttpClient();
+    private StorageManager storage;
+    private ApiServer apiServer;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        model.addSubject(new Subject("Mathematics"));
+        storage = new StorageManager(new JsonEduDexStorage(temporaryFolder.resolve("eduDex.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        apiServer = new ApiServer(new LogicManager(model, storage), 0, 4);
+        apiServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        apiServer.stop();
+    }
+
+    @Test
+    public void getPersons_noFilter_allPersonsWithIndexes() throws Exception {
+        HttpResponse<String> response = send("GET", ApiServer.PERSONS_PATH, null);
+        assertEquals(200, response.statusCode());
+
+        List<?> persons = JsonUtil.fromJsonString(response.body(), List.class);
+        assertEquals(model.getEduDex().getPersonList().size(), persons.size());
+        Map<?, ?> alice = (Map<?, ?>) persons.get(0);
+        assertEquals(1, alice.get("index"));
+        assertEquals(ALICE.getName().fullName, alice.get("name"));
+        assertEquals(List.of("friends"), alice.get("tags"));
+    }
+
+    @Test
+    public void getPersons_filters_matchingPersons() throws Exception {
+        assertEquals(List.of("Benson Meier", "Daniel Meier"), getPersonNames("?name=meier"));
+        assertEquals(List.of("Benson Meier"), getPersonNames("?day=Monday"));
+        assertEquals(List.of("Benson Meier"), getPersonNames("?subject=mathematics"));
+        assertEquals(List.of(), getPersonNames("?day=Sunday"));
+    }
+
+    @Test
+    public void getPersons_filter_indexesOfAllPersons() throws Exception {
+        HttpResponse<String> response = send("GET", ApiServer.PERSONS_PATH + "?name=meier", null);
+        List<Integer> indexes = new ArrayList<>();
+        for (Object person : JsonUtil.fromJsonString(response.body(), List.class)) {
+            indexes.add((Integer) ((Map<?, ?>) person).get("index"));
+        }
+        assertEquals(List.of(2, 4), indexes);
+    }
+
+    @Test
+    public void getPersons_invalidFilters_badRequest() throws Exception {
+        assertEquals(400, send("GET", ApiServer.PERSONS_PATH + "?day=Someday", null).statusCode());
+        assertEquals(400, send("GET", ApiServer.PERSONS_PATH + "?name=%20", null).statusCode());
+        assertEquals(400, send("GET", ApiServer.PERSONS_PATH + "?name=a&day=Monday", null).statusCode());
+    }
+
+    @Test
+    public void unsupportedRequests_errorStatus() throws Exception {
+        assertEquals(404, send("GET", ApiServer.PERSONS_PATH + "/1", null).statusCode());
+        assertEquals(405, send("DELETE", ApiServer.PERSONS_PATH, null).statusCode());
+        assertEquals(405, send("GET", ApiServer.LESSONS_PATH, null).statusCode());
+    }
+
+    @Test
+    public void postLesson_validLesson_lessonAdded() throws Exception {
+        HttpResponse<String> response = send("POST", ApiServer.LESSONS_PATH,
+                "{\"person\": 1, \"subject\": \"Mathematics\", \"day\": \"Tuesday\", "
+                        + "\"startTime\": \"10:00\", \"endTime\": \"11:00\"}");
+        assertEquals(200, response.statusCode());
+        assertEquals(1, model.getEduDex().getPersonList().get(0).getLessons().size());
+    }
+
+    @Test
+    public void putLesson_validChange_lessonEdited() throws Exception {
+        HttpResponse<String> response = send("PUT", ApiServer.LESSONS_PATH,
+                "{\"person\": 2, \"lesson\": 1, \"day\": \"Friday\"}");
+        assertEquals(200, response.statusCode());
+        assertEquals("Friday", model.getEduDex().getPersonList().get(1).getLessons().get(0).getDay().toString());
+    }
+
+    @Test
+    public void postLesson_invalidRequest_badRequest() throws Exception {
+        // field value that would otherwise be read as another prefix
+        assertEquals(400, send("POST", ApiServer.LESSONS_PATH, "{\"person\": 1, \"subject\": \"Mathematics\", "
+                + "\"day\": \"Tuesday d/Monday\", \"startTime\": \"10:00\", \"endTime\": \"11:00\"}").statusCode());
+        // missing field
+        assertEquals(400, send("POST", ApiServer.LESSONS_PATH, "{\"person\": 1, \"subject\": \"Mathematics\"}")
+                .statusCode());
+        // rejected by the command
+        assertEquals(400, send("POST", ApiServer.LESSONS_PATH, "{\"person\": 99, \"subject\": \"Mathematics\", "
+                + "\"day\": \"Tuesday\", \"startTime\": \"10:00\", \"endTime\": \"11:00\"}").statusCode());
+        // not json
+        assertEquals(400, send("POST", ApiServer.LESSONS_PATH, "lesson").statusCode());
+        assertTrue(model.getEduDex().getPersonList().get(0).getLessons().isEmpty());
+    }
+
+    @Test
+    public void concurrentRequests_allHandled() throws Exception {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int hour = 8; hour < 20; hour++) {
+            String lesson = String.format("{\"person\": 3, \"subject\": \"Mathematics\", \"day\": \"Saturday\", "
+                    + "\"startTime\": \"%02d:00\", \"endTime\": \"%02d:30\"}", hour, hour);
+            responses.add(sendAsync("POST", ApiServer.LESSONS_PATH, lesson));
+            responses.add(sendAsync("GET", ApiServer.PERSONS_PATH + "?day=Saturday", null));
+        }
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(200, response.get().statusCode());
+        }
+        assertEquals(12, model.getEduDex().getPersonList().get(2).getLessons().size());
+    }
+
+    @Test
+    public void stop_requestInProgress_waitsForRequest() throws Exception {
+        apiServer.stop();
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch queryReleased = new CountDownLatch(1);
+        apiServer = new ApiServer(new LogicManager(model, storage) {
+            @Override
+            public <T> T queryEduDex(Function<? super EduDexSnapshot, T> query) {
+                queryStarted.countDown();
+                try {
+                    queryReleased.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return super.queryEduDex(query);
+            }
+        }, 0, 1);
+        apiServer.start();
+
+        CompletableFuture<HttpResponse<String>> response = sendAsync("GET", ApiServer.PERSONS_PATH, null);
+        queryStarted.await();
+        Thread stoppingThread = new Thread(apiServer::stop);
+        stoppingThread.start();
+        stoppingThread.join(200);
+        assertTrue(stoppingThread.isAlive());
+
+        queryReleased.countDown();
+        assertEquals(200, response.get().statusCode());
+        stoppingThread.join();
+    }
+
+    private List<String> getPersonNames(String query) throws Exception {
+        HttpResponse<String> response = send("GET", ApiServer.PERSONS_PATH + query, null);
+        assertEquals(200, response.statusCode());
+        List<String> names = new ArrayList<>();
+        for (Object person : JsonUtil.fromJsonString(response.body(), List.class)) {
+            names.add((String) ((Map<?, ?>) person).get("name"));
+        }
+        return names;
+    }
+
+    private HttpResponse<String> send(String method, String pathAndQuery, String body) throws Exception {
+        return sendAsync(method, pathAndQuery, body).get();
+    }
+
+    private CompletableFuture<HttpResponse<String>> sendAsync(String method, String pathAndQuery, String body) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + apiServer.getPort()
+                        + pathAndQuery))
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -1,13 +1,22 @@
 package seedu.edudex.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edudex.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,23 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacedAndBackedUp() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("data.json");
+        Path backupFile = testFolder.resolve("data.json.bak");
+
+        FileUtil.writeToFile(file, "first", backupFile);
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(backupFile));
+
+        FileUtil.writeToFile(file, "second", backupFile);
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(backupFile));
+
+        // no temporary files are left behind
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
 }
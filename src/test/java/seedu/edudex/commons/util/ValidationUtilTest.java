@@ -0,0 +1,122 @@
+package seedu.edudex.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    /** Characters that the validated formats treat differently, including non-ASCII letters and digits. */
+    private static final char[] TEST_CHARACTERS = {'a', 'Z', '0', '9', ' ', '\t', '\n', '_', '-', ':', 'é', '٣', 'ß'};
+    private static final int RANDOM_STRING_COUNT = 50_000;
+    private static final int BENCHMARK_NAME_COUNT = 10_000;
+    private static final int BENCHMARK_ROUNDS = 100;
+    private static final int BENCHMARK_TRIALS = 5;
+    private static final double MIN_SPEEDUP = 1.5;
+
+    @Test
+    public void isDigits() {
+        assertTrue(ValidationUtil.isDigits("123", 3));
+        assertTrue(ValidationUtil.isDigits("93121534", 3));
+        assertFalse(ValidationUtil.isDigits("12", 3));
+        assertFalse(ValidationUtil.isDigits("12a", 3));
+        assertFalse(ValidationUtil.isDigits("9011p041", 3));
+        assertFalse(ValidationUtil.isDigits("٣٣٣", 3)); // non-ASCII digits
+        assertMatchesRegex("\\d{3,}", test -> ValidationUtil.isDigits(test, 3));
+    }
+
+    @Test
+    public void isAlphanumeric() {
+        assertTrue(ValidationUtil.isAlphanumeric("friend"));
+        assertFalse(ValidationUtil.isAlphanumeric(""));
+        assertFalse(ValidationUtil.isAlphanumeric("best friend"));
+        assertMatchesRegex("\\p{Alnum}+", ValidationUtil::isAlphanumeric);
+    }
+
+    @Test
+    public void isAlphanumericWords() {
+        assertTrue(ValidationUtil.isAlphanumericWords("Peter Jack 2nd"));
+        assertTrue(ValidationUtil.isAlphanumericWords("a  "));
+        assertFalse(ValidationUtil.isAlphanumericWords(""));
+        assertFalse(ValidationUtil.isAlphanumericWords(" peter"));
+        assertFalse(ValidationUtil.isAlphanumericWords("peter*"));
+        assertMatchesRegex("[\\p{Alnum}][\\p{Alnum} ]*", ValidationUtil::isAlphanumericWords);
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void isAlphanumericWords_manyNames_fasterThanPrecompiledRegex() {
+        Pattern pattern = Pattern.compile("[\\p{Alnum}][\\p{Alnum} ]*");
+        Validator regexValidator = test -> pattern.matcher(test).matches();
+        Validator scanningValidator = ValidationUtil::isAlphanumericWords;
+        String[] names = new String[BENCHMARK_NAME_COUNT];
+        for (int i = 0; i < names.length; i++) {
+            // every tenth name is invalid, ending in a character that the pattern rejects
+            names[i] = i % 10 == 0 ? "Tan Wei Ming " + i + "!" : "Alexander Bartholomew Tan " + i;
+        }
+
+        // warms up the JIT compiler, so that the timed validations run the same compiled code
+        timeValidations(names, regexValidator);
+        timeValidations(names, scanningValidator);
+
+        // takes the fastest of several interleaved trials, as a single trial is easily slowed down by the garbage
+        // collector or other processes
+        long regexNanos = Long.MAX_VALUE;
+        long scanningNanos = Long.MAX_VALUE;
+        for (int trial = 0; trial < BENCHMARK_TRIALS; trial++) {
+            regexNanos = Math.min(regexNanos, timeValidations(names, regexValidator));
+            scanningNanos = Math.min(scanningNanos, timeValidations(names, scanningValidator));
+        }
+
+        // scanning the characters avoids creating a matcher for every name and stepping through the pattern's nodes
+        assertTrue(scanningNanos * MIN_SPEEDUP < regexNanos,
+                String.format("Validated %d names in %d ms, and in %d ms with a precompiled regex",
+                        names.length * BENCHMARK_ROUNDS, scanningNanos / 1_000_000, regexNanos / 1_000_000));
+    }
+
+    /**
+     * Returns the nanoseconds taken to validate {@code names} {@link #BENCHMARK_ROUNDS} times with {@code validator},
+     * checking that it rejects exactly the invalid names.
+     */
+    private static long timeValidations(String[] names, Validator validator) {
+        int validCount = 0;
+        long startTime = System.nanoTime();
+        for (int round = 0; round < BENCHMARK_ROUNDS; round++) {
+            for (String name : names) {
+                if (validator.isValid(name)) {
+                    validCount++;
+                }
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        assertEquals(BENCHMARK_ROUNDS * (names.length - names.length / 10), validCount);
+        return elapsedNanos;
+    }
+
+    /**
+     * Asserts that {@code validator} accepts exactly the strings that {@code regex} matches, over random strings
+     * of the characters in {@link #TEST_CHARACTERS}.
+     */
+    private static void assertMatchesRegex(String regex, Validator validator) {
+        Pattern pattern = Pattern.compile(regex);
+        Random random = new Random(regex.hashCode());
+        for (int i = 0; i < RANDOM_STRING_COUNT; i++) {
+            StringBuilder test = new StringBuilder();
+            int length = random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                test.append(TEST_CHARACTERS[random.nextInt(TEST_CHARACTERS.length)]);
+            }
+            assertEquals(pattern.matcher(test).matches(), validator.isValid(test.toString()), "\"" + test + "\"");
+        }
+    }
+
+    private interface Validator {
+        boolean isValid(String test);
+    }
+}
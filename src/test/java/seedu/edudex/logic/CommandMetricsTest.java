@@ -0,0 +1,55 @@
+package seedu.edudex.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.logic.CommandMetrics.NOT_MEASURED;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandMetricsTest {
+
+    @Test
+    public void histogram_percentiles_upperBoundOfBucket() {
+        CommandMetrics.Histogram histogram = new CommandMetrics.Histogram();
+        assertEquals(0, histogram.getPercentile(0.5));
+
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        histogram.record(NOT_MEASURED);
+        assertEquals(100, histogram.getCount());
+        assertEquals(100, histogram.getMax());
+        // 50 falls in the bucket of 32 to 63
+        assertEquals(63, histogram.getPercentile(0.5));
+        // 95 falls in the bucket of 64 to 127, capped at the maximum
+        assertEquals(100, histogram.getPercentile(0.95));
+        assertEquals(1, histogram.getPercentile(0));
+    }
+
+    @Test
+    public void record_unmeasuredPhases_notRecorded() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.record("list", 1000, 2000, NOT_MEASURED, NOT_MEASURED);
+        metrics.record("list", 3000, NOT_MEASURED, NOT_MEASURED, 4096);
+
+        CommandMetrics.CommandStats stats = metrics.getStats().get("list");
+        assertEquals(2, stats.getCount());
+        assertEquals(1, stats.getExecuteNanos().getCount());
+        assertEquals(0, stats.getSaveNanos().getCount());
+        assertEquals(4096, stats.getAllocatedBytes().getMax());
+    }
+
+    @Test
+    public void toSummary() {
+        CommandMetrics metrics = new CommandMetrics();
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, metrics.toSummary());
+
+        metrics.record("list", 1_000_000, 2_000_000, NOT_MEASURED, NOT_MEASURED);
+        metrics.record("add", 1_000_000, 2_000_000, 3_000_000, 2048);
+        String[] lines = metrics.toSummary().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("add (1 times): parse median 1.00 ms"));
+        assertTrue(lines[0].endsWith("allocated median 2 KB, max 2 KB"));
+        assertTrue(lines[1].contains("save " + CommandMetrics.MESSAGE_NOT_MEASURED));
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.edudex.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edudex.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.edudex.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.edudex.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -9,19 +12,28 @@ import static seedu.edudex.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.edudex.logic.commands.CommandTestUtil.SCHOOL_DESC_AMY;
 import static seedu.edudex.testutil.Assert.assertThrows;
 import static seedu.edudex.testutil.TypicalPersons.AMY;
+import static seedu.edudex.testutil.TypicalPersons.HOON;
+import static seedu.edudex.testutil.TypicalPersons.IDA;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.consumer.RecordedEvent;
 import seedu.edudex.logic.commands.AddCommand;
 import seedu.edudex.logic.commands.CommandResult;
+import seedu.edudex.logic.commands.DeleteCommand;
 import seedu.edudex.logic.commands.ListCommand;
+import seedu.edudex.logic.commands.RunCommand;
+import seedu.edudex.logic.commands.StatsCommand;
 import seedu.edudex.logic.commands.exceptions.CommandException;
+import seedu.edudex.logic.parser.EduDexParser;
 import seedu.edudex.logic.parser.exceptions.ParseException;
 import seedu.edudex.model.Model;
 import seedu.edudex.model.ModelManager;
@@ -31,7 +43,9 @@ import seedu.edudex.model.person.Person;
 import seedu.edudex.storage.JsonEduDexStorage;
 import seedu.edudex.storage.JsonUserPrefsStorage;
 import seedu.edudex.storage.StorageManager;
+import seedu.edudex.testutil.FlightRecorderUtil;
 import seedu.edudex.testutil.PersonBuilder;
+import seedu.edudex.testutil.PersonUtil;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -70,6 +84,88 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_unchangedData_skipsSave() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logic.getSaveMetrics().getSavedCount());
+        assertEquals(1, logic.getSaveMetrics().getSkippedCount());
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + SCHOOL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, logic.getSaveMetrics().getSavedCount());
+        assertEquals(2, logic.getSaveMetrics().getSkippedCount());
+    }
+
+    @Test
+    public void execute_listAfterLoadingData_notSaved() throws Exception {
+        JsonEduDexStorage eduDexStorage = new JsonEduDexStorage(temporaryFolder.resolve("eduDex.json")) {
+            @Override
+            public void saveEduDex(ReadOnlyEduDex eduDex, Path filePath) {
+                throw new AssertionError("The loaded EduDex should not be saved again.");
+            }
+        };
+        StorageManager storage = new StorageManager(eduDexStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        model.addPerson(IDA);
+        logic = new LogicManager(model, storage, true);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, logic.getSaveMetrics().getSavedCount());
+        assertEquals(1, logic.getSaveMetrics().getSkippedCount());
+    }
+
+    @Test
+    public void queryEduDex_returnsQueryResult() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + SCHOOL_DESC_AMY + ADDRESS_DESC_AMY);
+        int personCount = logic.queryEduDex(eduDex -> eduDex.getPersonList().size());
+        assertEquals(1, personCount);
+    }
+
+    @Test
+    public void execute_commands_recordedPerCommandWord() throws Exception {
+        logic.execute(EduDexParser.ALIAS_LIST);
+        logic.execute("li");
+        assertThrows(CommandException.class, () -> logic.execute("delete 9"));
+        assertThrows(ParseException.class, () -> logic.execute("unknown"));
+
+        CommandMetrics.CommandStats listStats = logic.getCommandMetrics().getStats().get(ListCommand.COMMAND_WORD);
+        assertEquals(2, listStats.getCount());
+        assertEquals(2, listStats.getSaveNanos().getCount());
+
+        // failed while executing, so never saved
+        CommandMetrics.CommandStats deleteStats = logic.getCommandMetrics().getStats().get(DeleteCommand.COMMAND_WORD);
+        assertEquals(1, deleteStats.getExecuteNanos().getCount());
+        assertEquals(0, deleteStats.getSaveNanos().getCount());
+        assertEquals(2, logic.getCommandMetrics().getStats().size());
+
+        CommandResult result = logic.execute(StatsCommand.COMMAND_WORD);
+        assertTrue(result.getFeedbackToUser().contains(ListCommand.COMMAND_WORD + " (2 times)"));
+        assertTrue(result.getFeedbackToUser().contains("Saves: 1 performed, 1 skipped"));
+    }
+
+    @Test
+    public void execute_runScript_savesOnce() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(PersonUtil.getAddCommand(HOON), PersonUtil.getAddCommand(IDA),
+                ListCommand.COMMAND_WORD));
+        logic.execute(RunCommand.COMMAND_WORD + " " + script);
+
+        assertEquals(1, logic.getSaveMetrics().getSavedCount());
+        JsonEduDexStorage eduDexStorage = new JsonEduDexStorage(temporaryFolder.resolve("eduDex.json"));
+        assertEquals(model.getEduDex(), eduDexStorage.readEduDex().get());
+    }
+
+    @Test
+    public void execute_runScriptWithStats_statsExecuted() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(StatsCommand.COMMAND_WORD));
+        logic.execute(ListCommand.COMMAND_WORD);
+        CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + script);
+
+        assertTrue(result.getFeedbackToUser().contains(ListCommand.COMMAND_WORD + " (1 times)"));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -82,6 +178,29 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_asynchronousSaveFailed_failureReportedByNextCommand() throws Exception {
+        JsonEduDexStorage eduDexStorage = new JsonEduDexStorage(temporaryFolder.resolve("eduDex.json")) {
+            @Override
+            public void saveEduDex(ReadOnlyEduDex eduDex, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        StorageManager storage = new StorageManager(eduDexStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")), true);
+        logic = new LogicManager(model, storage);
+
+        // the write fails in the background, after the command that requested it has completed
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(CommandException.class, String.format(LogicManager.FILE_OPS_ERROR_FORMAT,
+                DUMMY_IO_EXCEPTION.getMessage()), () -> {
+                    for (int i = 0; i < 500; i++) {
+                        logic.execute(ListCommand.COMMAND_WORD);
+                        Thread.sleep(10);
+                    }
+                });
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -172,4 +291,19 @@ public class LogicManagerTest {
         expectedModel.addPerson(expectedPerson);
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
+
+    @Test
+    public void execute_flightRecorderEnabled_commandEventsCommitted() throws Exception {
+        List<RecordedEvent> events = FlightRecorderUtil.recordEvents("seedu.edudex.Command", () -> {
+            logic.execute(PersonUtil.getAddCommand(HOON));
+            assertThrows(ParseException.class, () -> logic.execute("unknown"));
+        });
+
+        assertEquals(2, events.size());
+        assertEquals(AddCommand.COMMAND_WORD, events.get(0).getString("commandWord"));
+        assertTrue(events.get(0).getBoolean("isSuccessful"));
+        assertEquals(1, events.get(0).getInt("personCount"));
+        assertNull(events.get(1).getString("commandWord"));
+        assertFalse(events.get(1).getBoolean("isSuccessful"));
+    }
 }
@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -22,10 +23,13 @@ import seedu.edudex.commons.core.GuiSettings;
 import seedu.edudex.logic.Messages;
 import seedu.edudex.logic.commands.exceptions.CommandException;
 import seedu.edudex.model.EduDex;
+import seedu.edudex.model.EduDexSnapshot;
 import seedu.edudex.model.Model;
 import seedu.edudex.model.ReadOnlyEduDex;
 import seedu.edudex.model.ReadOnlyUserPrefs;
+import seedu.edudex.model.person.Day;
 import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.LessonConflict;
 import seedu.edudex.model.person.Person;
 import seedu.edudex.model.subject.Subject;
 import seedu.edudex.testutil.PersonBuilder;
@@ -133,6 +137,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getEduDexVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public EduDexSnapshot getEduDexSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersons(Predicate<? super Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -188,6 +207,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Set<Person> matchingPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortFilteredPersonList(Comparator<Person> comparator) {
 
@@ -198,17 +222,32 @@ public class AddCommandTest {
             return null;
         }
 
+        public void updateSubjectList(Predicate<Subject> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
-        public void sortLessonsForEachPerson() {
+        public Person findPersonWithLessonConflict(Lesson editedLesson, Person personToEdit) {
             throw new AssertionError("This method should not be called.");
         }
 
-        public void updateSubjectList(Predicate<Subject> predicate) {
+        @Override
+        public List<LessonConflict> findLessonConflicts(Lesson lesson, Person personToExclude) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public Person findPersonWithLessonConflict(Lesson editedLesson, Person personToEdit) {
+        public Set<Person> findPersonsByNameKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsWithLessonOn(Day day) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsWithLessonInSubject(String subjectName) {
             throw new AssertionError("This method should not be called.");
         }
 
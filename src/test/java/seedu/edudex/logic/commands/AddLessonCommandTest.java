@@ -14,6 +14,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -22,10 +23,13 @@ import javafx.collections.ObservableList;
 import seedu.edudex.commons.core.GuiSettings;
 import seedu.edudex.commons.core.index.Index;
 import seedu.edudex.logic.commands.exceptions.CommandException;
+import seedu.edudex.model.EduDexSnapshot;
 import seedu.edudex.model.Model;
 import seedu.edudex.model.ReadOnlyEduDex;
 import seedu.edudex.model.ReadOnlyUserPrefs;
+import seedu.edudex.model.person.Day;
 import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.LessonConflict;
 import seedu.edudex.model.person.Person;
 import seedu.edudex.model.subject.Subject;
 import seedu.edudex.testutil.LessonBuilder;
@@ -231,6 +235,21 @@ public class AddLessonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getEduDexVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public EduDexSnapshot getEduDexSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersons(Predicate<? super Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -287,17 +306,17 @@ public class AddLessonCommandTest {
         }
 
         @Override
-        public void sortFilteredPersonList(Comparator<Person> comparator) {
+        public void updateFilteredPersonList(Predicate<Person> predicate, Set<Person> matchingPersons) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public ObservableList<Person> getSortedPersonList() {
+        public void sortFilteredPersonList(Comparator<Person> comparator) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void sortLessonsForEachPerson() {
+        public ObservableList<Person> getSortedPersonList() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -310,6 +329,26 @@ public class AddLessonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<LessonConflict> findLessonConflicts(Lesson lesson, Person personToExclude) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsByNameKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsWithLessonOn(Day day) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsWithLessonInSubject(String subjectName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Person> sortLessonsForEachPersonBySubject(String subjectKeyword) {
             throw new AssertionError("This method should not be called.");
@@ -409,6 +448,11 @@ public class AddLessonCommandTest {
         public Person findPersonWithLessonConflict(Lesson editedLesson, Person personToEdit) {
             return null; // no conflicts in this stub
         }
+
+        @Override
+        public List<LessonConflict> findLessonConflicts(Lesson lesson, Person personToExclude) {
+            return new ArrayList<>(); // no conflicts in this stub
+        }
     }
 
 }
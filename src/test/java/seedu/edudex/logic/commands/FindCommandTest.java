@@ -180,6 +180,14 @@ public class FindCommandTest {
     }
 
 
+    @Test
+    public void executeByName_matchingPersonReplacedAfterFind_remainsListed() {
+        new FindCommand(prepareNamePredicate("Carl")).execute(model);
+        Person editedCarl = new PersonBuilder(CARL).withPhone("91234567").build();
+        model.setPerson(CARL, editedCarl);
+        assertEquals(Collections.singletonList(editedCarl), model.getFilteredPersonList());
+    }
+
     // ----------------------------------------------
     // Day-Based Find tests
     // ----------------------------------------------
@@ -0,0 +1,166 @@
+package seedu.edudex.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.edudex.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.edudex.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.edudex.testutil.Assert.assertThrows;
+import static seedu.edudex.testutil.TypicalPersons.ALICE;
+import static seedu.edudex.testutil.TypicalPersons.HOON;
+import static seedu.edudex.testutil.TypicalPersons.IDA;
+import static seedu.edudex.testutil.TypicalPersons.getTypicalEduDex;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edudex.logic.Messages;
+import seedu.edudex.logic.commands.exceptions.CommandException;
+import seedu.edudex.logic.parser.CommandRegistry;
+import seedu.edudex.logic.parser.EduDexParser;
+import seedu.edudex.model.Model;
+import seedu.edudex.model.ModelManager;
+import seedu.edudex.model.UserPrefs;
+import seedu.edudex.model.person.SubjectComparator;
+import seedu.edudex.testutil.PersonUtil;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final CommandRegistry registry = EduDexParser.createDefaultRegistry();
+    private final Model model = new ModelManager(getTypicalEduDex(), new UserPrefs());
+
+    @Test
+    public void execute_validScript_allCommandsExecuted() throws Exception {
+        Path script = writeScript("# new students", PersonUtil.getAddCommand(HOON), "",
+                "  " + PersonUtil.getAddCommand(IDA));
+
+        Model expectedModel = new ModelManager(getTypicalEduDex(), new UserPrefs());
+        expectedModel.addPerson(HOON);
+        expectedModel.addPerson(IDA);
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 2, script)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_RESULT, 2,
+                        String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(HOON)))
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_RESULT, 4,
+                        String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(IDA)));
+        assertCommandSuccess(new RunCommand(script, registry), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_failingLine_changesRolledBack() throws Exception {
+        Path script = writeScript(PersonUtil.getAddCommand(HOON), "delete 2", PersonUtil.getAddCommand(ALICE),
+                PersonUtil.getAddCommand(IDA));
+        String expectedMessage = String.format(RunCommand.MESSAGE_LINE_FAILED, 3,
+                AddCommand.MESSAGE_DUPLICATE_PERSON, 2);
+        assertCommandFailure(new RunCommand(script, registry), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_unparsableLine_changesRolledBack() throws Exception {
+        Path script = writeScript(PersonUtil.getAddCommand(HOON), "unknownCommand");
+        assertCommandFailure(new RunCommand(script, registry), model,
+                String.format(RunCommand.MESSAGE_LINE_FAILED, 2, MESSAGE_UNKNOWN_COMMAND, 1));
+    }
+
+    @Test
+    public void execute_failingLineAfterFind_allPersonsListed() throws Exception {
+        model.sortFilteredPersonList(new SubjectComparator());
+        Path script = writeScript(FindCommand.COMMAND_WORD + " " + ALICE.getName().fullName, "unknownCommand");
+        assertThrows(CommandException.class, () -> new RunCommand(script, registry).execute(model));
+
+        Model expectedModel = new ModelManager(getTypicalEduDex(), new UserPrefs());
+        assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
+        assertEquals(expectedModel.getSortedPersonList(), model.getSortedPersonList());
+    }
+
+    @Test
+    public void execute_runtimeException_changesRolledBack() throws Exception {
+        registry.register("fail", arguments -> new Command() {
+            @Override
+            public CommandResult execute(Model model) {
+                model.deletePerson(ALICE);
+                throw new IllegalStateException("failed");
+            }
+        });
+        Path script = writeScript(PersonUtil.getAddCommand(HOON), "fail");
+
+        assertThrows(IllegalStateException.class, "failed", () -> new RunCommand(script, registry).execute(model));
+        assertEquals(getTypicalEduDex(), model.getEduDex());
+    }
+
+    @Test
+    public void execute_registeredCommand_executed() throws Exception {
+        CommandResult result = new CommandResult("recent persons");
+        registry.register("recent", arguments -> new Command() {
+            @Override
+            public CommandResult execute(Model model) {
+                return result;
+            }
+        });
+        Path script = writeScript("recent");
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 1, script) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_RESULT, 1, result.getFeedbackToUser()),
+                new RunCommand(script, registry).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_nestedRun_throwsCommandException() throws Exception {
+        Path script = writeScript(RunCommand.COMMAND_WORD + " other.txt");
+        assertCommandFailure(new RunCommand(script, registry), model,
+                String.format(RunCommand.MESSAGE_LINE_FAILED, 1, RunCommand.MESSAGE_NESTED_RUN, 0));
+    }
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        Path script = testFolder.resolve("missing.txt");
+        try {
+            new RunCommand(script, registry).execute(model);
+        } catch (Exception e) {
+            assertTrue(e.getMessage().startsWith(String.format(RunCommand.MESSAGE_CANNOT_READ, script, "")));
+            return;
+        }
+        throw new AssertionError("The expected CommandException was not thrown.");
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Paths.get("a.txt"), registry);
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(Paths.get("a.txt"), registry)));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different script -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("b.txt"), registry)));
+
+        // different commands -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("a.txt"), EduDexParser.createDefaultRegistry())));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path script = Paths.get("a.txt");
+        String expected = RunCommand.class.getCanonicalName() + "{scriptPath=" + script + "}";
+        assertEquals(expected, new RunCommand(script, registry).toString());
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, String.join("\n", lines).getBytes());
+        return script;
+    }
+}
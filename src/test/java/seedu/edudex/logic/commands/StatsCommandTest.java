@@ -0,0 +1,48 @@
+package seedu.edudex.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edudex.logic.CommandMetrics;
+import seedu.edudex.logic.SaveMetrics;
+import seedu.edudex.model.Model;
+import seedu.edudex.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_showsSummary() {
+        CommandMetrics metrics = new CommandMetrics();
+        SaveMetrics saveMetrics = new SaveMetrics();
+        assertCommandSuccess(new StatsCommand(metrics, saveMetrics), model,
+                String.format(StatsCommand.MESSAGE_SUCCESS, CommandMetrics.MESSAGE_NO_COMMANDS,
+                        "Saves: 0 performed, 0 skipped, 0.00 ms spent saving"), expectedModel);
+
+        metrics.record(ListCommand.COMMAND_WORD, 1000, 1000, 1000, 1000);
+        saveMetrics.recordSave(1_500_000);
+        saveMetrics.recordSkip();
+        assertCommandSuccess(new StatsCommand(metrics, saveMetrics), model,
+                String.format(StatsCommand.MESSAGE_SUCCESS, metrics.toSummary(),
+                        "Saves: 1 performed, 1 skipped, 1.50 ms spent saving"), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        CommandMetrics metrics = new CommandMetrics();
+        SaveMetrics saveMetrics = new SaveMetrics();
+        StatsCommand statsCommand = new StatsCommand(metrics, saveMetrics);
+
+        assertTrue(statsCommand.equals(statsCommand));
+        assertEquals(statsCommand, new StatsCommand(metrics, saveMetrics));
+        assertFalse(statsCommand.equals(null));
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics(), saveMetrics)));
+        assertFalse(statsCommand.equals(new StatsCommand(metrics, new SaveMetrics())));
+    }
+}
@@ -5,10 +5,14 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 public class ArgumentTokenizerTest {
 
+    private static final int ARGUMENT_COUNT = 50_000;
+    private static final int MAX_SCALING_FACTOR = 8;
+
     private final Prefix unknownPrefix = new Prefix("--u");
     private final Prefix pSlash = new Prefix("p/");
     private final Prefix dashT = new Prefix("-t");
@@ -136,6 +140,49 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixStartsWithAnotherPrefix_longestPrefixTaken() {
+        Prefix sSlash = new Prefix("s/");
+        Prefix sSlashT = new Prefix("s/t/");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize("preamble s/t/ first s/ second", sSlash, sSlashT);
+        assertArgumentPresent(argMultimap, sSlashT, "first");
+        assertArgumentPresent(argMultimap, sSlash, "second");
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void tokenize_repeatedPrefixes_linearTime() {
+        // warms up the JIT compiler, so that the timed tokenizations run the same compiled code
+        timeTokenize(ARGUMENT_COUNT);
+
+        long smallerNanos = timeTokenize(ARGUMENT_COUNT);
+        long largerNanos = timeTokenize(4 * ARGUMENT_COUNT);
+
+        // four times the arguments take about four times as long, where copying the values of a prefix each time it
+        // is repeated would take sixteen times as long
+        assertTrue(largerNanos < MAX_SCALING_FACTOR * smallerNanos,
+                String.format("Tokenized %d arguments in %d ms, %d arguments in %d ms", 2 * ARGUMENT_COUNT,
+                        smallerNanos / 1_000_000, 8 * ARGUMENT_COUNT, largerNanos / 1_000_000));
+    }
+
+    /**
+     * Returns the nanoseconds taken to tokenize an arguments string that repeats the {@code p/} and {@code -t}
+     * prefixes {@code repeatCount} times each.
+     */
+    private long timeTokenize(int repeatCount) {
+        StringBuilder argsString = new StringBuilder("preamble");
+        for (int i = 0; i < repeatCount; i++) {
+            argsString.append(" p/").append(i).append(" -t value");
+        }
+
+        long startTime = System.nanoTime();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString.toString(), pSlash, dashT, hatQ);
+        long elapsedNanos = System.nanoTime() - startTime;
+        assertEquals(repeatCount, argMultimap.getAllValues(pSlash).size());
+        assertEquals(String.valueOf(repeatCount - 1), argMultimap.getValue(pSlash).get());
+        return elapsedNanos;
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
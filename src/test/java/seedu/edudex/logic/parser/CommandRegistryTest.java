@@ -0,0 +1,53 @@
+package seedu.edudex.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.edudex.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.edudex.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edudex.logic.commands.Command;
+import seedu.edudex.logic.commands.ExitCommand;
+import seedu.edudex.logic.commands.HelpCommand;
+import seedu.edudex.logic.parser.exceptions.ParseException;
+
+public class CommandRegistryTest {
+
+    private final Parser<Command> helpParser = arguments -> new HelpCommand();
+    private final Parser<Command> exitParser = arguments -> new ExitCommand();
+
+    @Test
+    public void register_duplicateWord_throwsIllegalArgumentException() {
+        CommandRegistry registry = new CommandRegistry().register("help", helpParser);
+        assertThrows(IllegalArgumentException.class, () -> registry.register("help", exitParser));
+        assertThrows(IllegalArgumentException.class, () -> registry.registerAlias("help", "help"));
+    }
+
+    @Test
+    public void registerAlias_unregisteredWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CommandRegistry().registerAlias("h", "help"));
+    }
+
+    @Test
+    public void getParser_exactWordPrefixOfOtherWord_returnsExactMatch() throws Exception {
+        CommandRegistry registry = new CommandRegistry().register("he", exitParser).register("help", helpParser);
+        assertSame(exitParser, registry.getParser("he"));
+        assertSame(helpParser, registry.getParser("hel"));
+    }
+
+    @Test
+    public void getParser_abbreviatedAlias_throwsParseException() {
+        CommandRegistry registry = new CommandRegistry().register("exit", exitParser).registerAlias("quit", "exit");
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.getParser("qu"));
+    }
+
+    @Test
+    public void getCommandWord_wordAliasOrAbbreviation_returnsCommandWord() throws Exception {
+        CommandRegistry registry = new CommandRegistry().register("exit", exitParser).registerAlias("quit", "exit");
+        assertEquals("exit", registry.getCommandWord("exit"));
+        assertEquals("exit", registry.getCommandWord("quit"));
+        assertEquals("exit", registry.getCommandWord("ex"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.getCommandWord("help"));
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.edudex.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
 import static seedu.edudex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.edudex.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.edudex.testutil.Assert.assertThrows;
@@ -14,7 +16,9 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.edudex.logic.commands.AddCommand;
+import seedu.edudex.logic.commands.AddLessonCommand;
 import seedu.edudex.logic.commands.ClearCommand;
+import seedu.edudex.logic.commands.Command;
 import seedu.edudex.logic.commands.DeleteCommand;
 import seedu.edudex.logic.commands.EditCommand;
 import seedu.edudex.logic.commands.ExitCommand;
@@ -97,4 +101,55 @@ public class EduDexParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_abbreviation_parsesCommand() throws Exception {
+        assertTrue(parser.parseCommand("li") instanceof ListCommand);
+        assertTrue(parser.parseCommand("f foo bar") instanceof FindCommand);
+        assertTrue(parser.parseCommand("addl 1 sub/english d/monday start/10:00 end/11:00")
+                instanceof AddLessonCommand);
+    }
+
+    @Test
+    public void parseCommand_alias_parsesCommand() throws Exception {
+        assertTrue(parser.parseCommand(EduDexParser.ALIAS_LIST) instanceof ListCommand);
+        assertTrue(parser.parseCommand(EduDexParser.ALIAS_EXIT + " 3") instanceof ExitCommand);
+    }
+
+    @Test
+    public void parseCommand_ambiguousAbbreviation_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "ad",
+                "add, addlesson, addsub"), () -> parser.parseCommand("ad 1"));
+    }
+
+    @Test
+    public void parseCommand_abbreviatedDestructiveCommand_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("cl"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("del 1"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("dele 1"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("delsu Math"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("dell 1 1"));
+    }
+
+    @Test
+    public void parseCommand_registeredCommand_parsedByRegisteredParser() throws Exception {
+        Command command = new ListCommand();
+        EduDexParser customParser = new EduDexParser(EduDexParser.createDefaultRegistry()
+                .register("recent", arguments -> command));
+        assertSame(command, customParser.parseCommand("recent"));
+        assertSame(command, customParser.parseCommand("rec 5"));
+    }
+
+    @Test
+    public void resolveCommand_aliasOrAbbreviation_resolvedCommandWord() throws Exception {
+        assertEquals(ListCommand.COMMAND_WORD, parser.resolveCommand(EduDexParser.ALIAS_LIST).getCommandWord());
+        assertEquals(AddLessonCommand.COMMAND_WORD, parser.resolveCommand("  addl 1 s/Math").getCommandWord());
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.resolveCommand("unknown"));
+    }
+
+    @Test
+    public void resolveCommand_invalidArguments_throwsParseExceptionOnParse() throws Exception {
+        EduDexParser.CommandInput commandInput = parser.resolveCommand("addl 1 s/Math");
+        assertThrows(ParseException.class, commandInput::parse);
+    }
 }
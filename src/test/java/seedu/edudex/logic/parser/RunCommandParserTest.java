@@ -0,0 +1,30 @@
+package seedu.edudex.logic.parser;
+
+import static seedu.edudex.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.edudex.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.edudex.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edudex.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private final CommandRegistry registry = EduDexParser.createDefaultRegistry();
+    private final RunCommandParser parser = new RunCommandParser(registry);
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        assertParseSuccess(parser, "  data/my lessons.txt ",
+                new RunCommand(Paths.get("data/my lessons.txt"), registry));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "   ", expectedMessage);
+        assertParseFailure(parser, "a\0b", expectedMessage);
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.edudex.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.testutil.TypicalPersons.BENSON;
+import static seedu.edudex.testutil.TypicalPersons.DANIEL;
+import static seedu.edudex.testutil.TypicalPersons.getTypicalEduDex;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edudex.model.person.Day;
+import seedu.edudex.model.person.Person;
+import seedu.edudex.testutil.PersonBuilder;
+
+public class EduDexSnapshotTest {
+
+    private final EduDex eduDex = getTypicalEduDex();
+    private final EduDexSnapshot snapshot = new EduDexSnapshot(eduDex);
+
+    @Test
+    public void findPersons_sameAsEduDex() {
+        assertEquals(Set.of(BENSON, DANIEL), snapshot.findPersonsByNameKeywords(List.of("meier")));
+        assertEquals(eduDex.findPersonsWithLessonOn(Day.of("Monday")),
+                snapshot.findPersonsWithLessonOn(Day.of("Monday")));
+        assertEquals(eduDex.findPersonsWithLessonInSubject("mathematics"),
+                snapshot.findPersonsWithLessonInSubject("mathematics"));
+    }
+
+    @Test
+    public void findPersons_eduDexModified_snapshotUnchanged() {
+        snapshot.findPersonsByNameKeywords(List.of("meier"));
+        eduDex.removePerson(BENSON);
+        assertEquals(Set.of(BENSON, DANIEL), snapshot.findPersonsByNameKeywords(List.of("meier")));
+        assertTrue(new EduDexSnapshot(eduDex).findPersonsByNameKeywords(List.of("benson")).isEmpty());
+    }
+
+    @Test
+    public void indexOf() {
+        List<Person> persons = snapshot.getPersonList();
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(i, snapshot.indexOf(persons.get(i)));
+        }
+
+        // equal person that is not in the snapshot -> -1
+        assertEquals(-1, snapshot.indexOf(new PersonBuilder(BENSON).build()));
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.edudex.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.edudex.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.edudex.testutil.Assert.assertThrows;
 import static seedu.edudex.testutil.TypicalPersons.ALICE;
+import static seedu.edudex.testutil.TypicalPersons.BENSON;
 import static seedu.edudex.testutil.TypicalPersons.getTypicalEduDex;
 import static seedu.edudex.testutil.TypicalSubjects.MATH;
 
@@ -20,9 +21,13 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import jdk.jfr.consumer.RecordedEvent;
+import seedu.edudex.model.person.Lesson;
 import seedu.edudex.model.person.Person;
 import seedu.edudex.model.person.exceptions.DuplicatePersonException;
 import seedu.edudex.model.subject.Subject;
+import seedu.edudex.testutil.FlightRecorderUtil;
+import seedu.edudex.testutil.LessonBuilder;
 import seedu.edudex.testutil.PersonBuilder;
 
 public class EduDexTest {
@@ -114,6 +119,18 @@ public class EduDexTest {
         assertThrows(UnsupportedOperationException.class, () -> eduDex.getPersonList().remove(0));
     }
 
+    @Test
+    public void findPersonWithLessonConflict_flightRecorderEnabled_eventCommitted() throws Exception {
+        EduDex typicalEduDex = getTypicalEduDex();
+        Lesson lesson = new LessonBuilder().withSubject("English").build();
+
+        List<RecordedEvent> events = FlightRecorderUtil.recordEvents("seedu.edudex.LessonConflictSearch", () ->
+                assertEquals(BENSON, typicalEduDex.findPersonWithLessonConflict(lesson, ALICE)));
+        assertEquals(1, events.size());
+        assertEquals(typicalEduDex.getPersonList().size(), events.get(0).getInt("personCount"));
+        assertEquals(1, events.get(0).getInt("conflictCount"));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = EduDex.class.getCanonicalName() + "{persons=" + eduDex.getPersonList() + "}";
@@ -2,7 +2,9 @@ package seedu.edudex.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edudex.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.edudex.testutil.Assert.assertThrows;
@@ -12,8 +14,14 @@ import static seedu.edudex.testutil.TypicalSubjects.MATH;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
 
@@ -24,6 +32,7 @@ import seedu.edudex.model.person.Lesson;
 import seedu.edudex.model.person.NameContainsKeywordsPredicate;
 import seedu.edudex.model.person.Person;
 import seedu.edudex.model.person.Time;
+import seedu.edudex.model.person.exceptions.DuplicatePersonException;
 import seedu.edudex.model.subject.Subject;
 import seedu.edudex.testutil.EduDexBuilder;
 import seedu.edudex.testutil.LessonBuilder;
@@ -157,25 +166,6 @@ public class ModelManagerTest {
         assertFalse(modelManager.equals(new ModelManager(eduDex, differentUserPrefs)));
     }
 
-    @Test
-    public void sortLessonsForEachPerson_sortsChronologically_success() {
-        Model model = new ModelManager(new EduDex(), new UserPrefs());
-
-        Person student = new PersonBuilder().withName("Alice").build();
-        Lesson l1 = new Lesson(new Subject("Math"), new Day("Friday"),
-                new Time("15:00"), new Time("16:00"));
-        Lesson l2 = new Lesson(new Subject("Math"), new Day("Monday"),
-                new Time("10:00"), new Time("11:00"));
-        student.setLessons(List.of(l1, l2));
-
-        model.addPerson(student);
-
-        model.sortLessonsForEachPerson();
-
-        assertEquals("Monday",
-                model.getFilteredPersonList().get(0).getLessons().get(0).getDay().toString());
-    }
-
     @Test
     public void findPersonWithLessonConflict_returnsNull_success() {
         Model model = new ModelManager(new EduDex(), new UserPrefs());
@@ -251,4 +241,99 @@ public class ModelManagerTest {
         ObservableList<Person> result = model.getFilteredPersonList();
         assertEquals(model.getSortedPersonList(), result);
     }
+
+    @Test
+    public void getEduDexSnapshot_modifyModel_snapshotUnchanged() {
+        modelManager.addPerson(ALICE);
+        ReadOnlyEduDex snapshot = modelManager.getEduDexSnapshot();
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+
+        modelManager.addPerson(BENSON);
+        modelManager.addSubject(MATH);
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertTrue(snapshot.getSubjectList().isEmpty());
+        assertEquals(List.of(ALICE, BENSON), modelManager.getEduDexSnapshot().getPersonList());
+        assertEquals(List.of(MATH), modelManager.getEduDexSnapshot().getSubjectList());
+    }
+
+    @Test
+    public void getEduDexSnapshot_unchangedModel_sameSnapshot() {
+        modelManager.addPerson(ALICE);
+        EduDexSnapshot snapshot = modelManager.getEduDexSnapshot();
+        assertSame(snapshot, modelManager.getEduDexSnapshot());
+
+        // failed change -> same snapshot
+        assertThrows(DuplicatePersonException.class, () -> modelManager.addPerson(ALICE));
+        assertSame(snapshot, modelManager.getEduDexSnapshot());
+
+        modelManager.deletePerson(ALICE);
+        assertNotSame(snapshot, modelManager.getEduDexSnapshot());
+    }
+
+    @Test
+    public void getEduDexSnapshot_modifySnapshot_throwsUnsupportedOperationException() {
+        modelManager.addPerson(ALICE);
+        assertThrows(UnsupportedOperationException.class, () ->
+                modelManager.getEduDexSnapshot().getPersonList().remove(0));
+        assertThrows(UnsupportedOperationException.class, () ->
+                modelManager.getEduDexSnapshot().getSubjectList().add(MATH));
+    }
+
+    @Test
+    public void findPersons_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.findPersons(null));
+    }
+
+    @Test
+    public void findPersons_filteredListUnchanged() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        List<Person> found = modelManager.findPersons(
+                new NameContainsKeywordsPredicate(Arrays.asList(BENSON.getName().fullName.split("\\s+"))));
+        assertEquals(List.of(BENSON), found);
+        assertEquals(2, modelManager.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void findPersons_concurrentChanges_consistentResults() throws Exception {
+        int personCount = 500;
+        int readerCount = 4;
+        ExecutorService readers = Executors.newFixedThreadPool(readerCount);
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < readerCount; i++) {
+            results.add(readers.submit(() -> {
+                int lastSize = 0;
+                boolean wasWriting;
+                do {
+                    // checked before reading, so that the last reads see all persons
+                    wasWriting = isWriting.get();
+                    // the writer only appends, so every snapshot must hold a prefix of its persons
+                    List<Person> persons = modelManager.getEduDexSnapshot().getPersonList();
+                    assertTrue(persons.size() >= lastSize);
+                    for (int j = 0; j < persons.size(); j++) {
+                        assertEquals("Person " + j, persons.get(j).getName().fullName);
+                    }
+                    lastSize = persons.size();
+
+                    List<Person> found = modelManager.findPersons(person -> !person.getName().fullName.isEmpty());
+                    assertTrue(found.size() >= lastSize);
+                    lastSize = found.size();
+                } while (wasWriting);
+                return lastSize;
+            }));
+        }
+
+        try {
+            for (int i = 0; i < personCount; i++) {
+                modelManager.addPerson(new PersonBuilder().withName("Person " + i).build());
+            }
+        } finally {
+            isWriting.set(false);
+        }
+        for (Future<Integer> result : results) {
+            assertEquals(personCount, result.get(10, TimeUnit.SECONDS));
+        }
+        readers.shutdown();
+    }
 }
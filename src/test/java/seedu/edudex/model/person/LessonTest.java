@@ -2,6 +2,7 @@ package seedu.edudex.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edudex.testutil.Assert.assertThrows;
 
@@ -119,4 +120,35 @@ public class LessonTest {
         // Lessons on different days should not conflict
         assertFalse(lesson1.conflictsWith(lesson4));
     }
+
+    @Test
+    public void getStartAndEndOfWeek() {
+        Lesson mondayLesson = new Lesson(subjectMath, dayMonday, time0900, time1000);
+        assertEquals(9 * 3600, mondayLesson.getStartOfWeek());
+        assertEquals(10 * 3600, mondayLesson.getEndOfWeek());
+
+        Lesson sundayLesson = new Lesson(subjectMath, new Day("Sunday"), new Time("00:00"), new Time("23:59"));
+        assertEquals(6 * 24 * 3600, sundayLesson.getStartOfWeek());
+        assertTrue(mondayLesson.getStartOfWeek() < new Lesson(subjectMath, dayTuesday, time0900, time1000)
+                .getStartOfWeek());
+    }
+
+    @Test
+    public void conflictsWith_lessonsAtEndAndStartOfAdjacentDays_noConflict() {
+        Lesson lateMonday = new Lesson(subjectMath, dayMonday, new Time("23:00"), new Time("23:59"));
+        Lesson earlyTuesday = new Lesson(subjectMath, dayTuesday, new Time("00:00"), new Time("01:00"));
+        assertFalse(lateMonday.conflictsWith(earlyTuesday));
+        assertFalse(earlyTuesday.conflictsWith(lateMonday));
+    }
+
+    @Test
+    public void getCopyOfLesson_returnsEqualLessonWithCanonicalValues() {
+        Lesson lesson = new Lesson(subjectMath, dayMonday, time0900, new Time("10:00:30"));
+        Lesson copy = lesson.getCopyOfLesson();
+        assertEquals(lesson, copy);
+        assertSame(Subject.of("math"), copy.getSubject());
+        assertSame(Day.of("MONDAY"), copy.getDay());
+        assertSame(Time.of("09:00"), copy.getStartTime());
+        assertEquals(new Time("10:00:30"), copy.getEndTime());
+    }
 }
@@ -1,9 +1,13 @@
 package seedu.edudex.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import seedu.edudex.model.subject.Subject;
@@ -11,6 +15,10 @@ import seedu.edudex.testutil.PersonBuilder;
 
 public class SubjectComparatorTest {
 
+    private static final int BENCHMARK_PERSON_COUNT = 10_000;
+    private static final int BENCHMARK_LESSONS_PER_PERSON = 5;
+    private static final int MIN_SPEEDUP = 5;
+
     @Test
     public void compare_personsSortedByEarliestLessonDayTime_success() {
         Lesson mondayLesson = new Lesson(new Subject("Math"), new Day("Monday"),
@@ -35,4 +43,106 @@ public class SubjectComparatorTest {
         SubjectComparator comparator = new SubjectComparator();
         assertTrue(comparator.compare(empty1, empty2) == 0);
     }
+
+    @Test
+    public void compare_earliestLessonNotFirstInList_usesEarliestLesson() {
+        Lesson tuesdayLesson = new Lesson(new Subject("Math"), new Day("Tuesday"),
+                new Time("08:00"), new Time("09:00"));
+        Lesson mondayLateLesson = new Lesson(new Subject("Math"), new Day("Monday"),
+                new Time("18:00"), new Time("19:00"));
+        Lesson mondayEarlyLesson = new Lesson(new Subject("Science"), new Day("Monday"),
+                new Time("07:00"), new Time("08:00"));
+
+        Person alice = new PersonBuilder().withName("Alice").withLessons(List.of(tuesdayLesson, mondayLateLesson))
+                .build();
+        Person bob = new PersonBuilder().withName("Bob").withLessons(new ArrayList<>(List.of(tuesdayLesson)))
+                .build();
+        SubjectComparator comparator = new SubjectComparator();
+        assertTrue(comparator.compare(alice, bob) < 0);
+
+        // the sort key follows lessons added later
+        bob.addLesson(mondayEarlyLesson);
+        assertTrue(comparator.compare(alice, bob) > 0);
+
+        Person empty = new PersonBuilder().withName("Carl").build();
+        assertTrue(comparator.compare(empty, bob) > 0);
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void sort_manyPersons_fasterThanSortingLessonsPerComparison() {
+        List<Person> persons = createPersons(BENCHMARK_PERSON_COUNT, BENCHMARK_LESSONS_PER_PERSON);
+        Comparator<Person> lessonSortingComparator = SubjectComparatorTest::compareBySortingLessons;
+        SubjectComparator comparator = new SubjectComparator();
+
+        // warms up the JIT compiler, so that the timed sorts run the same compiled code
+        timeSort(persons, lessonSortingComparator);
+        timeSort(persons, comparator);
+
+        long lessonSortingNanos = timeSort(persons, lessonSortingComparator);
+        long comparatorNanos = timeSort(persons, comparator);
+
+        // both comparators order the persons the same way
+        List<Person> sortedByLessonSorting = new ArrayList<>(persons);
+        sortedByLessonSorting.sort(lessonSortingComparator);
+        List<Person> sortedByComparator = new ArrayList<>(persons);
+        sortedByComparator.sort(comparator);
+        assertEquals(sortedByLessonSorting, sortedByComparator);
+
+        // comparing cached keys avoids sorting the lessons of both persons in every comparison
+        assertTrue(comparatorNanos * MIN_SPEEDUP < lessonSortingNanos,
+                String.format("Sorted %d persons in %d ms, and in %d ms by sorting lessons in each comparison",
+                        persons.size(), comparatorNanos / 1_000_000, lessonSortingNanos / 1_000_000));
+    }
+
+    /**
+     * Returns {@code personCount} persons with {@code lessonCount} lessons each, spread over the week.
+     */
+    private static List<Person> createPersons(int personCount, int lessonCount) {
+        String[] days = Day.VALID_DAYS;
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            List<Lesson> lessons = new ArrayList<>();
+            for (int j = 0; j < lessonCount; j++) {
+                int hour = (i * 7 + j * 3) % 20;
+                lessons.add(new Lesson(new Subject("Math"), new Day(days[(i + j) % days.length]),
+                        new Time(String.format("%02d:00", hour)), new Time(String.format("%02d:30", hour))));
+            }
+            persons.add(new PersonBuilder().withName("Student " + i).withLessons(lessons).build());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the nanoseconds taken to sort a copy of {@code persons} with {@code comparator}.
+     */
+    private static long timeSort(List<Person> persons, Comparator<Person> comparator) {
+        List<Person> copy = new ArrayList<>(persons);
+        long startTime = System.nanoTime();
+        copy.sort(comparator);
+        return System.nanoTime() - startTime;
+    }
+
+    /**
+     * Compares persons as {@code SubjectComparator} did before it used cached keys, by sorting the lessons of both
+     * persons to find their earliest lessons in each comparison.
+     */
+    private static int compareBySortingLessons(Person p1, Person p2) {
+        Comparator<Lesson> lessonComparator = Comparator
+                .comparing((Lesson l) -> l.getDay().getNumericValue())
+                .thenComparing(l -> l.getStartTime().getTime());
+        Lesson firstLesson1 = p1.getLessons().stream().sorted(lessonComparator).findFirst().orElse(null);
+        Lesson firstLesson2 = p2.getLessons().stream().sorted(lessonComparator).findFirst().orElse(null);
+
+        if (firstLesson1 == null && firstLesson2 == null) {
+            return 0;
+        }
+        if (firstLesson1 == null) {
+            return 1;
+        }
+        if (firstLesson2 == null) {
+            return -1;
+        }
+        return lessonComparator.compare(firstLesson1, firstLesson2);
+    }
 }
@@ -0,0 +1,54 @@
+package seedu.edudex.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.testutil.Assert.assertThrows;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.Test;
+
+public class TimeTest {
+
+    @Test
+    public void constructor_invalidTime_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Time("25:00"));
+    }
+
+    @Test
+    public void isValidTime() {
+        // invalid times
+        assertFalse(Time.isValidTime(null));
+        assertFalse(Time.isValidTime(""));
+        assertFalse(Time.isValidTime("9:00"));
+        assertFalse(Time.isValidTime("24:00"));
+        assertFalse(Time.isValidTime("12:60"));
+        assertFalse(Time.isValidTime("1a:00"));
+
+        // valid times
+        assertTrue(Time.isValidTime("00:00"));
+        assertTrue(Time.isValidTime("23:59"));
+        assertTrue(Time.isValidTime("12:30:15")); // seconds are accepted by LocalTime
+    }
+
+    @Test
+    public void isValidTime_allTwoDigitPairs_sameAsLocalTimeParse() {
+        for (int hour = 0; hour < 100; hour++) {
+            for (int minute = 0; minute < 100; minute++) {
+                String time = String.format("%02d:%02d", hour, minute);
+                assertEquals(isParsedByLocalTime(time), Time.isValidTime(time), time);
+            }
+        }
+    }
+
+    private static boolean isParsedByLocalTime(String time) {
+        try {
+            LocalTime.parse(time);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+}
@@ -8,15 +8,18 @@ import static seedu.edudex.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.edudex.testutil.Assert.assertThrows;
 import static seedu.edudex.testutil.TypicalPersons.ALICE;
 import static seedu.edudex.testutil.TypicalPersons.BOB;
+import static seedu.edudex.testutil.TypicalPersons.getTypicalPersons;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.edudex.model.person.exceptions.DuplicatePersonException;
 import seedu.edudex.model.person.exceptions.PersonNotFoundException;
+import seedu.edudex.testutil.LessonBuilder;
 import seedu.edudex.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -162,6 +165,120 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void findLessonConflicts_overlappingLessons_returnsAllConflicts() {
+        Lesson aliceLesson = new LessonBuilder().withDay("Monday").withStartTime("10:00").withEndTime("12:00").build();
+        Lesson bobLesson = new LessonBuilder().withDay("Monday").withStartTime("11:30").withEndTime("13:00").build();
+        Person alice = new PersonBuilder(ALICE).withLessons(List.of(aliceLesson)).build();
+        Person bob = new PersonBuilder(BOB).withLessons(List.of(bobLesson)).build();
+        uniquePersonList.add(alice);
+        uniquePersonList.add(bob);
+
+        Lesson query = new LessonBuilder().withDay("Monday").withStartTime("11:00").withEndTime("12:00").build();
+        assertEquals(List.of(new LessonConflict(alice, aliceLesson), new LessonConflict(bob, bobLesson)),
+                uniquePersonList.findLessonConflicts(query, null));
+
+        // lessons of the excluded person are skipped
+        assertEquals(List.of(new LessonConflict(bob, bobLesson)), uniquePersonList.findLessonConflicts(query, alice));
+    }
+
+    @Test
+    public void findLessonConflicts_nonOverlappingLessons_returnsEmptyList() {
+        Lesson aliceLesson = new LessonBuilder().withDay("Monday").withStartTime("10:00").withEndTime("11:00").build();
+        uniquePersonList.add(new PersonBuilder(ALICE).withLessons(List.of(aliceLesson)).build());
+
+        // back-to-back lesson
+        Lesson adjacent = new LessonBuilder().withDay("Monday").withStartTime("11:00").withEndTime("12:00").build();
+        assertTrue(uniquePersonList.findLessonConflicts(adjacent, null).isEmpty());
+
+        // same time on a different day
+        Lesson otherDay = new LessonBuilder().withDay("Tuesday").withStartTime("10:00").withEndTime("11:00").build();
+        assertTrue(uniquePersonList.findLessonConflicts(otherDay, null).isEmpty());
+
+        // identical lesson shared by several students
+        assertTrue(uniquePersonList.findLessonConflicts(aliceLesson, null).isEmpty());
+    }
+
+    @Test
+    public void findLessonConflicts_afterSetAndRemove_reflectsCurrentLessons() {
+        Lesson longLesson = new LessonBuilder().withDay("Friday").withStartTime("08:00").withEndTime("18:00").build();
+        Lesson shortLesson = new LessonBuilder().withDay("Friday").withStartTime("08:00").withEndTime("09:00").build();
+        Person alice = new PersonBuilder(ALICE).withLessons(List.of(longLesson)).build();
+        Person editedAlice = new PersonBuilder(ALICE).withLessons(List.of(shortLesson)).build();
+        Lesson query = new LessonBuilder().withDay("Friday").withStartTime("17:00").withEndTime("17:30").build();
+
+        uniquePersonList.add(alice);
+        assertEquals(List.of(new LessonConflict(alice, longLesson)), uniquePersonList.findLessonConflicts(query, null));
+
+        uniquePersonList.setPerson(alice, editedAlice);
+        assertTrue(uniquePersonList.findLessonConflicts(query, null).isEmpty());
+
+        uniquePersonList.remove(editedAlice);
+        Lesson earlyQuery = new LessonBuilder().withDay("Friday").withStartTime("08:30").withEndTime("09:30").build();
+        assertTrue(uniquePersonList.findLessonConflicts(earlyQuery, null).isEmpty());
+    }
+
+    @Test
+    public void findPersonsByNameKeywords_matchesNameContainsKeywordsPredicate() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        List<List<String>> keywordLists = List.of(List.of("al"), List.of("PAU", "bEnS"), List.of("Kurz", "x"),
+                List.of("e"), List.of("Meier"), List.of("nobody"));
+        for (List<String> keywords : keywordLists) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            List<Person> expected = getTypicalPersons().stream().filter(predicate).toList();
+            Set<Person> matches = uniquePersonList.findPersonsByNameKeywords(keywords);
+            assertEquals(expected.size(), matches.size());
+            assertTrue(matches.containsAll(expected));
+        }
+    }
+
+    @Test
+    public void findPersonsByNameKeywords_afterSetAndRemove_reflectsCurrentNames() {
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        uniquePersonList.add(ALICE);
+        assertEquals(Set.of(ALICE), uniquePersonList.findPersonsByNameKeywords(List.of("paul")));
+
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertTrue(uniquePersonList.findPersonsByNameKeywords(List.of("paul")).isEmpty());
+        assertEquals(Set.of(editedAlice), uniquePersonList.findPersonsByNameKeywords(List.of("ali")));
+
+        uniquePersonList.remove(editedAlice);
+        assertTrue(uniquePersonList.findPersonsByNameKeywords(List.of("ali")).isEmpty());
+    }
+
+    @Test
+    public void findPersonsWithLessonOnAndInSubject_reflectsCurrentLessons() {
+        Lesson mondayMath = new LessonBuilder().withSubject("Math").withDay("Monday").build();
+        Lesson mondayScience = new LessonBuilder().withSubject("Science").withDay("Monday")
+                .withStartTime("15:00").withEndTime("16:00").build();
+        Person alice = new PersonBuilder(ALICE).withLessons(List.of(mondayMath, mondayScience)).build();
+        Person editedAlice = new PersonBuilder(ALICE).withLessons(List.of(mondayScience)).build();
+        uniquePersonList.add(alice);
+        uniquePersonList.add(BOB);
+
+        assertEquals(Set.of(alice), uniquePersonList.findPersonsWithLessonOn(new Day("Monday")));
+        assertEquals(Set.of(alice), uniquePersonList.findPersonsWithLessonInSubject(" mATH "));
+        assertTrue(uniquePersonList.findPersonsWithLessonOn(new Day("Tuesday")).isEmpty());
+
+        // a person stays indexed under a day until its last lesson on that day is removed
+        uniquePersonList.setPerson(alice, editedAlice);
+        assertEquals(Set.of(editedAlice), uniquePersonList.findPersonsWithLessonOn(new Day("Monday")));
+        assertTrue(uniquePersonList.findPersonsWithLessonInSubject("Math").isEmpty());
+
+        uniquePersonList.remove(editedAlice);
+        assertTrue(uniquePersonList.findPersonsWithLessonOn(new Day("Monday")).isEmpty());
+        assertTrue(uniquePersonList.findPersonsWithLessonInSubject("Science").isEmpty());
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsAllDuplicateNames() {
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, upperCaseAlice, BOB, ALICE);
+        assertThrows(DuplicatePersonException.class,
+                "Operation would result in duplicate persons: " + ALICE.getName() + ", " + BOB.getName(), () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -147,6 +147,14 @@ public class UniqueSubjectListTest {
         assertThrows(DuplicateSubjectException.class, () -> uniqueSubjectList.setSubjects(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setSubjects_listWithDuplicateSubjects_reportsAllDuplicateNames() {
+        List<Subject> listWithDuplicateSubjects = Arrays.asList(MATH, SCIENCE, new Subject("MATH"), SCIENCE);
+        assertThrows(DuplicateSubjectException.class,
+                "Operation would result in duplicate subjects: " + MATH + ", " + SCIENCE, () ->
+                uniqueSubjectList.setSubjects(listWithDuplicateSubjects));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
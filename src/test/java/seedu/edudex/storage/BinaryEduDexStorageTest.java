@@ -0,0 +1,174 @@
+package seedu.edudex.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.edudex.testutil.Assert.assertThrows;
+import static seedu.edudex.testutil.TypicalPersons.HOON;
+import static seedu.edudex.testutil.TypicalPersons.getTypicalEduDex;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edudex.commons.core.DataFileFormat;
+import seedu.edudex.commons.exceptions.DataLoadingException;
+import seedu.edudex.model.EduDex;
+import seedu.edudex.model.ReadOnlyEduDex;
+import seedu.edudex.model.person.Person;
+import seedu.edudex.model.subject.Subject;
+import seedu.edudex.testutil.LessonBuilder;
+import seedu.edudex.testutil.PersonBuilder;
+
+public class BinaryEduDexStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readEduDex_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryEduDexStorage(testFolder.resolve("missing.bin")).readEduDex().isPresent());
+    }
+
+    @Test
+    public void readAndSaveEduDex_allInOrder_success() throws Exception {
+        BinaryEduDexStorage storage = new BinaryEduDexStorage(testFolder.resolve("edudex.bin"));
+        EduDex original = getTypicalEduDex();
+        original.addSubject(new Subject("Physics"));
+        storage.saveEduDex(original);
+
+        ReadOnlyEduDex readBack = storage.readEduDex().get();
+        assertEquals(original, new EduDex(readBack));
+        assertEquals(original.getSubjectList(), readBack.getSubjectList());
+
+        original.addPerson(HOON);
+        storage.saveEduDex(original);
+        assertEquals(original, new EduDex(storage.readEduDex().get()));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_lossless() throws Exception {
+        Path jsonPath = testFolder.resolve("edudex.json");
+        Path binaryPath = testFolder.resolve("edudex.bin");
+        Path convertedJsonPath = testFolder.resolve("converted.json");
+        EduDex original = getTypicalEduDex();
+        original.addSubject(new Subject("Physics"));
+        new JsonEduDexStorage(jsonPath).saveEduDex(original);
+
+        assertTrue(EduDexStorageConverter.convert(jsonPath, DataFileFormat.JSON, binaryPath, DataFileFormat.BINARY));
+        assertTrue(EduDexStorageConverter.convert(binaryPath, DataFileFormat.BINARY, convertedJsonPath,
+                DataFileFormat.JSON));
+        assertEquals(Files.readString(jsonPath), Files.readString(convertedJsonPath));
+        assertTrue(Files.size(binaryPath) < Files.size(jsonPath));
+
+        assertFalse(EduDexStorageConverter.convert(testFolder.resolve("missing.json"), DataFileFormat.JSON,
+                binaryPath, DataFileFormat.BINARY));
+    }
+
+    @Test
+    public void readAndSaveEduDex_timesWithSeconds_lossless() throws Exception {
+        BinaryEduDexStorage storage = new BinaryEduDexStorage(testFolder.resolve("edudex.bin"));
+        EduDex original = getTypicalEduDex();
+        original.addPerson(new PersonBuilder(HOON).withLessons(List.of(
+                new LessonBuilder().withStartTime("12:00:30").withEndTime("13:00").build(),
+                new LessonBuilder().withDay("Friday").withStartTime("08:15").withEndTime("23:59:59.5").build()))
+                .build());
+        storage.saveEduDex(original);
+
+        assertEquals(original, new EduDex(storage.readEduDex().get()));
+    }
+
+    @Test
+    public void readEduDex_version1File_success() throws Exception {
+        Path filePath = testFolder.resolve("edudex.bin");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryEduDexStorage.MAGIC_NUMBER);
+        out.writeShort(1);
+        out.writeInt(1); // dictionary
+        out.writeUTF("Mathematics");
+        out.writeInt(0); // subjects
+        out.writeInt(1); // persons
+
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        record.writeUTF(HOON.getName().fullName);
+        record.writeUTF(HOON.getPhone().value);
+        record.writeInt(0);
+        record.writeUTF(HOON.getAddress().value);
+        record.writeInt(0); // tags
+        record.writeInt(1); // lessons
+        record.writeInt(0);
+        record.writeInt(1 << 22 | (12 * 60) << 11 | (13 * 60)); // Monday, 12:00 to 13:00
+        out.writeInt(recordBytes.size());
+        recordBytes.writeTo(out);
+        Files.write(filePath, bytes.toByteArray());
+
+        Person expectedPerson = new PersonBuilder(HOON).withSchool("Mathematics").withTags()
+                .withLessons(List.of(new LessonBuilder().build())).build();
+        assertEquals(List.of(expectedPerson), new BinaryEduDexStorage(filePath).readEduDex().get().getPersonList());
+    }
+
+    @Test
+    public void readEduDex_jsonFile_loadedAndConvertedWhenSaved() throws Exception {
+        Path filePath = testFolder.resolve("edudex.bin");
+        EduDex original = getTypicalEduDex();
+        new JsonEduDexStorage(filePath).saveEduDex(original);
+        BinaryEduDexStorage storage = new BinaryEduDexStorage(filePath);
+
+        assertEquals(original, new EduDex(storage.readEduDex().get()));
+
+        storage.saveEduDex(original);
+        assertEquals(DataFileFormat.BINARY, EduDexStorageConverter.detectFormat(filePath));
+        Path backupFilePath = FileEduDexStorage.getBackupFilePath(filePath);
+        assertEquals(DataFileFormat.JSON, EduDexStorageConverter.detectFormat(backupFilePath));
+        assertEquals(original, new EduDex(storage.readEduDex(backupFilePath).get()));
+    }
+
+    @Test
+    public void readEduDex_binaryFile_loadedByJsonStorage() throws Exception {
+        Path filePath = testFolder.resolve("edudex.json");
+        EduDex original = getTypicalEduDex();
+        new BinaryEduDexStorage(filePath).saveEduDex(original);
+
+        assertEquals(original, new EduDex(new JsonEduDexStorage(filePath).readEduDex().get()));
+    }
+
+    @Test
+    public void readEduDex_notEduDexFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("edudex.bin");
+        Files.writeString(filePath, "not EduDex data");
+        assertThrows(DataLoadingException.class, () -> new BinaryEduDexStorage(filePath).readEduDex());
+    }
+
+    @Test
+    public void readEduDex_corruptedLength_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("edudex.bin");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryEduDexStorage.MAGIC_NUMBER);
+        out.writeShort(BinaryEduDexStorage.FORMAT_VERSION);
+        out.writeInt(Integer.MAX_VALUE);
+        Files.write(filePath, bytes.toByteArray());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryEduDexStorage(filePath).readEduDex());
+    }
+
+    @Test
+    public void readEduDex_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("edudex.bin");
+        BinaryEduDexStorage storage = new BinaryEduDexStorage(filePath);
+        storage.saveEduDex(getTypicalEduDex());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        Files.deleteIfExists(FileEduDexStorage.getBackupFilePath(filePath));
+
+        assertThrows(DataLoadingException.class, storage::readEduDex);
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.edudex.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.edudex.testutil.TypicalPersons.ALICE;
+import static seedu.edudex.testutil.TypicalPersons.BENSON;
+import static seedu.edudex.testutil.TypicalPersons.HOON;
+import static seedu.edudex.testutil.TypicalPersons.IDA;
+import static seedu.edudex.testutil.TypicalPersons.getTypicalEduDex;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edudex.model.EduDex;
+import seedu.edudex.model.ModelManager;
+import seedu.edudex.model.ReadOnlyEduDex;
+import seedu.edudex.model.person.Lesson;
+import seedu.edudex.model.person.Person;
+import seedu.edudex.model.subject.Subject;
+import seedu.edudex.testutil.LessonBuilder;
+import seedu.edudex.testutil.PersonBuilder;
+
+public class JournaledEduDexStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readEduDex_missingFile_emptyResult() throws Exception {
+        JournaledEduDexStorage storage = new JournaledEduDexStorage(testFolder.resolve("missing.json"), 10);
+        assertFalse(storage.readEduDex().isPresent());
+    }
+
+    @Test
+    public void saveEduDex_changes_appendedToJournalAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("edudex.json");
+        JournaledEduDexStorage storage = new JournaledEduDexStorage(filePath, 10);
+        EduDex eduDex = getTypicalEduDex();
+        storage.saveEduDex(eduDex);
+        String snapshot = Files.readString(filePath);
+
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        eduDex.setPerson(BENSON, editedBenson);
+        storage.saveEduDex(eduDex);
+        eduDex.removePerson(ALICE);
+        storage.saveEduDex(eduDex);
+        eduDex.addPerson(HOON);
+        eduDex.addSubject(new Subject("Physics"));
+        storage.saveEduDex(eduDex);
+
+        // saving unchanged data appends nothing
+        storage.saveEduDex(eduDex);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(5, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        ReadOnlyEduDex readBack = new JournaledEduDexStorage(filePath, 10).readEduDex().get();
+        assertEquals(eduDex, new EduDex(readBack));
+        assertEquals(eduDex.getSubjectList(), readBack.getSubjectList());
+    }
+
+    @Test
+    public void saveEduDex_lessonsReordered_newOrderReplayed() throws Exception {
+        Path filePath = testFolder.resolve("edudex.json");
+        JournaledEduDexStorage storage = new JournaledEduDexStorage(filePath, 10);
+        Lesson friday = new LessonBuilder().withDay("Friday").build();
+        Lesson monday = new LessonBuilder().withDay("Monday").build();
+        ModelManager model = new ModelManager();
+        Person person = new PersonBuilder().withLessons(List.of(friday, monday)).build();
+        model.addPerson(person);
+        storage.saveEduDex(model.getEduDex());
+
+        model.setPerson(person, new PersonBuilder(person).withLessons(List.of(monday, friday)).build());
+        storage.saveEduDex(model.getEduDex());
+
+        ReadOnlyEduDex readBack = new JournaledEduDexStorage(filePath, 10).readEduDex().get();
+        assertEquals(List.of(monday, friday), readBack.getPersonList().get(0).getLessons());
+    }
+
+    @Test
+    public void saveEduDex_thresholdReached_compactsJournalIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("edudex.json");
+        JournaledEduDexStorage storage = new JournaledEduDexStorage(filePath, 2);
+        EduDex eduDex = getTypicalEduDex();
+        storage.saveEduDex(eduDex);
+
+        eduDex.addPerson(HOON);
+        storage.saveEduDex(eduDex);
+        eduDex.addPerson(IDA);
+        storage.saveEduDex(eduDex);
+        eduDex.removePerson(HOON);
+        storage.saveEduDex(eduDex);
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(eduDex, new EduDex(new JsonEduDexStorage(filePath).readEduDex().get()));
+        assertEquals(eduDex, new EduDex(new JournaledEduDexStorage(filePath, 2).readEduDex().get()));
+    }
+
+    @Test
+    public void readEduDex_journalOfOtherSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("edudex.json");
+        JournaledEduDexStorage storage = new JournaledEduDexStorage(filePath, 10);
+        EduDex eduDex = getTypicalEduDex();
+        storage.saveEduDex(eduDex);
+        eduDex.addPerson(HOON);
+        storage.saveEduDex(eduDex);
+
+        // as left behind when compaction is interrupted after writing the snapshot
+        new JsonEduDexStorage(filePath).saveEduDex(eduDex);
+        ReadOnlyEduDex readBack = new JournaledEduDexStorage(filePath, 10).readEduDex().get();
+        assertEquals(eduDex, new EduDex(readBack));
+    }
+
+    @Test
+    public void readEduDex_incompleteLastRecord_recordIgnored() throws Exception {
+        Path filePath = testFolder.resolve("edudex.json");
+        JournaledEduDexStorage storage = new JournaledEduDexStorage(filePath, 10);
+        EduDex eduDex = getTypicalEduDex();
+        storage.saveEduDex(eduDex);
+        eduDex.addPerson(HOON);
+        storage.saveEduDex(eduDex);
+        Files.write(storage.getJournalFilePath(), "{\"type\":\"persons\",\"ind".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledEduDexStorage reopenedStorage = new JournaledEduDexStorage(filePath, 10);
+        assertEquals(eduDex, new EduDex(reopenedStorage.readEduDex().get()));
+
+        // the next save rewrites the journal instead of appending after the incomplete record
+        eduDex.addPerson(IDA);
+        reopenedStorage.saveEduDex(eduDex);
+        assertEquals(eduDex, new EduDex(new JournaledEduDexStorage(filePath, 10).readEduDex().get()));
+    }
+}
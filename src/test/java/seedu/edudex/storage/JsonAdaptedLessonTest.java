@@ -1,6 +1,7 @@
 package seedu.edudex.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.edudex.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.edudex.testutil.Assert.assertThrows;
 
@@ -36,6 +37,16 @@ public class JsonAdaptedLessonTest {
         assertEquals(VALID_LESSON, lesson.toModelType());
     }
 
+    @Test
+    public void toModelType_sameLessonDetails_sharesCanonicalValues() throws Exception {
+        Lesson first = new JsonAdaptedLesson(VALID_SUBJECT, VALID_DAY, VALID_STARTTIME, VALID_ENDTIME).toModelType();
+        Lesson second = new JsonAdaptedLesson("MATH", "monday", VALID_STARTTIME, VALID_ENDTIME).toModelType();
+        assertSame(first.getSubject(), second.getSubject());
+        assertSame(first.getDay(), second.getDay());
+        assertSame(first.getStartTime(), second.getStartTime());
+        assertSame(first.getEndTime(), second.getEndTime());
+    }
+
     /*
     // Once we have implemented Subject.json validation, we can uncomment these tests
         @Test
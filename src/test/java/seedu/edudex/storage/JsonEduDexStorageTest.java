@@ -9,15 +9,19 @@ import static seedu.edudex.testutil.TypicalPersons.IDA;
 import static seedu.edudex.testutil.TypicalPersons.getTypicalEduDex;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.consumer.RecordedEvent;
 import seedu.edudex.commons.exceptions.DataLoadingException;
 import seedu.edudex.model.EduDex;
 import seedu.edudex.model.ReadOnlyEduDex;
+import seedu.edudex.testutil.FlightRecorderUtil;
 
 public class JsonEduDexStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonEduDexStorageTest");
@@ -86,6 +90,74 @@ public class JsonEduDexStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveEduDex_flightRecorderEnabled_eventsCommitted() throws Exception {
+        Path filePath = testFolder.resolve("TempEduDex.json");
+        EduDex original = getTypicalEduDex();
+        JsonEduDexStorage jsonEduDexStorage = new JsonEduDexStorage(filePath);
+
+        List<RecordedEvent> saveEvents = FlightRecorderUtil.recordEvents("seedu.edudex.Save", () ->
+                jsonEduDexStorage.saveEduDex(original));
+        assertEquals(1, saveEvents.size());
+        assertEquals(original.getPersonList().size(), saveEvents.get(0).getInt("personCount"));
+        assertEquals(Files.size(filePath), saveEvents.get(0).getLong("byteCount"));
+        assertEquals(JsonEduDexStorage.class.getSimpleName(), saveEvents.get(0).getString("format"));
+
+        List<RecordedEvent> loadEvents = FlightRecorderUtil.recordEvents("seedu.edudex.Load",
+                jsonEduDexStorage::readEduDex);
+        assertEquals(1, loadEvents.size());
+        assertEquals(original.getPersonList().size(), loadEvents.get(0).getInt("personCount"));
+        assertEquals(Files.size(filePath), loadEvents.get(0).getLong("byteCount"));
+    }
+
+    @Test
+    public void readEduDex_corruptedDataFile_backupLoaded() throws Exception {
+        Path filePath = testFolder.resolve("TempEduDex.json");
+        JsonEduDexStorage jsonEduDexStorage = new JsonEduDexStorage(filePath);
+        EduDex original = getTypicalEduDex();
+        jsonEduDexStorage.saveEduDex(original);
+        EduDex edited = new EduDex(original);
+        edited.addPerson(HOON);
+        jsonEduDexStorage.saveEduDex(edited);
+
+        // as left by a write that was interrupted outside of EduDex
+        Files.writeString(filePath, "{ \"persons\": [");
+        assertEquals(original, new EduDex(jsonEduDexStorage.readEduDex().get()));
+
+        // as left by a save interrupted after moving the data file to its backup
+        Files.delete(filePath);
+        assertEquals(original, new EduDex(jsonEduDexStorage.readEduDex().get()));
+    }
+
+    @Test
+    public void saveEduDex_afterBackupLoaded_backupKept() throws Exception {
+        Path filePath = testFolder.resolve("TempEduDex.json");
+        JsonEduDexStorage jsonEduDexStorage = new JsonEduDexStorage(filePath);
+        EduDex original = getTypicalEduDex();
+        jsonEduDexStorage.saveEduDex(original);
+        jsonEduDexStorage.saveEduDex(original);
+        Files.writeString(filePath, "{ \"persons\": [");
+        jsonEduDexStorage.readEduDex();
+
+        EduDex edited = new EduDex(original);
+        edited.addPerson(HOON);
+        jsonEduDexStorage.saveEduDex(edited);
+        Path backupFilePath = FileEduDexStorage.getBackupFilePath(filePath);
+        assertEquals(original, new EduDex(new JsonEduDexStorage(backupFilePath).readEduDex().get()));
+
+        // later saves keep backups as usual
+        jsonEduDexStorage.saveEduDex(original);
+        assertEquals(edited, new EduDex(new JsonEduDexStorage(backupFilePath).readEduDex().get()));
+    }
+
+    @Test
+    public void readEduDex_corruptedDataFileAndBackup_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempEduDex.json");
+        Files.writeString(filePath, "not json");
+        Files.writeString(JsonEduDexStorage.getBackupFilePath(filePath), "not json either");
+        assertThrows(DataLoadingException.class, () -> new JsonEduDexStorage(filePath).readEduDex());
+    }
+
     @Test
     public void saveEduDex_nullEduDex_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveEduDex(null, "SomeFile.json"));
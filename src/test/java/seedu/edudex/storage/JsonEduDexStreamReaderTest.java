@@ -0,0 +1,73 @@
+package seedu.edudex.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.edudex.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edudex.commons.exceptions.IllegalValueException;
+import seedu.edudex.commons.util.JsonUtil;
+import seedu.edudex.model.EduDex;
+import seedu.edudex.testutil.TypicalPersons;
+
+public class JsonEduDexStreamReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableEduDexTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsEduDex.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonEduDex.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonEduDex.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalEduDex(), JsonEduDexStreamReader.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_sameAsTreeReader() throws Exception {
+        Path file = testFolder.resolve("edudex.json");
+        EduDex original = TypicalPersons.getTypicalEduDex();
+        JsonUtil.saveJsonFile(new JsonSerializableEduDex(original), file);
+
+        EduDex treeRead = JsonUtil.readJsonFile(file, JsonSerializableEduDex.class).get().toModelType();
+        EduDex streamRead = JsonEduDexStreamReader.read(file);
+        assertEquals(treeRead, streamRead);
+        assertEquals(treeRead.getSubjectList(), streamRead.getSubjectList());
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonEduDexStreamReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableEduDex.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonEduDexStreamReader.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_unknownFieldsAndMissingSubjects_success() throws Exception {
+        Path file = testFolder.resolve("edudex.json");
+        Files.writeString(file, "{ \"_comment\": { \"nested\": [1, 2] }, \"persons\": [] }");
+        assertEquals(new EduDex(), JsonEduDexStreamReader.read(file));
+    }
+
+    @Test
+    public void read_notJsonObject_throwsIoException() throws Exception {
+        Path file = testFolder.resolve("edudex.json");
+        Files.writeString(file, "[ ]");
+        assertThrows(IOException.class, () -> JsonEduDexStreamReader.read(file));
+
+        Files.writeString(file, "{ \"persons\": [ ");
+        assertThrows(IOException.class, () -> JsonEduDexStreamReader.read(file));
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.edudex.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.edudex.testutil.TypicalPersons.getTypicalEduDex;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.edudex.commons.util.JsonUtil;
+import seedu.edudex.model.EduDex;
+import seedu.edudex.model.subject.Subject;
+
+public class JsonEduDexStreamWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_pretty_sameAsSerializableEduDex() throws Exception {
+        EduDex eduDex = getTypicalEduDex();
+        eduDex.addSubject(new Subject("Physics"));
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableEduDex(eduDex)), write(eduDex, true));
+    }
+
+    @Test
+    public void write_compact_noWhitespaceAndReadBack() throws Exception {
+        EduDex eduDex = getTypicalEduDex();
+        eduDex.addSubject(new Subject("Physics"));
+        String json = write(eduDex, false);
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableEduDex(eduDex)), json);
+        assertFalse(json.contains("\n"));
+
+        Path file = testFolder.resolve("edudex.json");
+        Files.writeString(file, json);
+        EduDex readBack = JsonEduDexStreamReader.read(file);
+        assertEquals(eduDex, readBack);
+        assertEquals(eduDex.getSubjectList(), readBack.getSubjectList());
+    }
+
+    private static String write(EduDex eduDex, boolean isPretty) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonEduDexStreamWriter.write(eduDex, out, isPretty);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -1,11 +1,15 @@
 package seedu.edudex.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.edudex.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import seedu.edudex.commons.exceptions.IllegalValueException;
@@ -20,6 +24,9 @@ public class JsonSerializableEduDexTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonEduDex.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonEduDex.json");
 
+    private static final int LARGE_PERSON_COUNT = 100_000;
+    private static final int MAX_SCALING_FACTOR = 8;
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableEduDex dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -43,4 +50,38 @@ public class JsonSerializableEduDexTest {
         assertThrows(IllegalValueException.class, JsonSerializableEduDex.MESSAGE_DUPLICATE_PERSON,
                 dataFromFile::toModelType);
     }
+
+    @Test
+    @Tag("benchmark")
+    public void toModelType_manyPersons_linearTime() throws Exception {
+        // warms up the JIT compiler, so that the timed loads run the same compiled code
+        timeLoad(LARGE_PERSON_COUNT / 4);
+
+        long smallerLoadNanos = timeLoad(LARGE_PERSON_COUNT / 4);
+        long largerLoadNanos = timeLoad(LARGE_PERSON_COUNT);
+
+        // four times the persons take about four times as long, where identity checks that scan the whole list
+        // would take sixteen times as long
+        assertTrue(largerLoadNanos < MAX_SCALING_FACTOR * smallerLoadNanos,
+                String.format("Loaded %d persons in %d ms, %d persons in %d ms", LARGE_PERSON_COUNT / 4,
+                        smallerLoadNanos / 1_000_000, LARGE_PERSON_COUNT, largerLoadNanos / 1_000_000));
+    }
+
+    /**
+     * Returns the nanoseconds taken to convert {@code personCount} stored persons to the model.
+     */
+    private static long timeLoad(int personCount) throws Exception {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            persons.add(new JsonAdaptedPerson("Student " + i, String.format("9%07d", i), "NUS Primary School",
+                    "Street " + i, null, null));
+        }
+        JsonSerializableEduDex data = new JsonSerializableEduDex(persons, new ArrayList<>());
+
+        long startTime = System.nanoTime();
+        EduDex eduDex = data.toModelType();
+        long elapsedNanos = System.nanoTime() - startTime;
+        assertEquals(personCount, eduDex.getPersonList().size());
+        return elapsedNanos;
+    }
 }
@@ -0,0 +1,56 @@
+package seedu.edudex.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.edudex.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.edudex.commons.exceptions.IllegalValueException;
+
+public class ParallelRecordConverterTest {
+
+    private static final int RECORD_COUNT = ParallelRecordConverter.PARALLEL_THRESHOLD * 10;
+
+    private static final List<Integer> RECORDS = IntStream.range(0, RECORD_COUNT).boxed()
+            .collect(Collectors.toList());
+
+    @Test
+    public void convertInOrder_validRecords_receivedInOrder() throws Exception {
+        List<String> received = new ArrayList<>();
+        ParallelRecordConverter.convertInOrder(RECORDS, String::valueOf, received::add);
+        assertEquals(RECORDS.stream().map(String::valueOf).collect(Collectors.toList()), received);
+    }
+
+    @Test
+    public void convertInOrder_invalidRecords_firstInvalidRecordReported() {
+        List<Integer> received = new ArrayList<>();
+        assertThrows(IllegalValueException.class, "invalid 5000", () ->
+                ParallelRecordConverter.convertInOrder(RECORDS, record -> {
+                    if (record % 5000 == 0 && record > 0) {
+                        throw new IllegalValueException("invalid " + record);
+                    }
+                    return record;
+                }, received::add));
+        assertEquals(RECORDS.subList(0, 5000), received);
+    }
+
+    @Test
+    public void convertInOrder_receiverFailsBeforeInvalidRecord_receiverFailureReported() {
+        assertThrows(IllegalValueException.class, "duplicate 100", () ->
+                ParallelRecordConverter.convertInOrder(RECORDS, record -> {
+                    if (record == RECORD_COUNT - 1) {
+                        throw new IllegalValueException("invalid " + record);
+                    }
+                    return record;
+                }, record -> {
+                    if (record == 100) {
+                        throw new IllegalValueException("duplicate " + record);
+                    }
+                }));
+    }
+}
@@ -2,9 +2,16 @@ package seedu.edudex.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.edudex.testutil.Assert.assertThrows;
+import static seedu.edudex.testutil.TypicalPersons.HOON;
+import static seedu.edudex.testutil.TypicalPersons.IDA;
 import static seedu.edudex.testutil.TypicalPersons.getTypicalEduDex;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,4 +72,69 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getEduDexFilePath());
     }
 
+    @Test
+    public void saveEduDex_asynchronousBurstOfSaves_coalescedIntoLatestSnapshot() throws Exception {
+        BlockingEduDexStorage eduDexStorage = new BlockingEduDexStorage(getTempFilePath("ab"));
+        StorageManager asyncStorageManager = new StorageManager(eduDexStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        EduDex eduDex = getTypicalEduDex();
+
+        asyncStorageManager.saveEduDex(eduDex);
+        eduDexStorage.writeStarted.await(5, TimeUnit.SECONDS);
+
+        // changes made after saving are not part of the saved snapshot
+        eduDex.addPerson(HOON);
+        asyncStorageManager.saveEduDex(eduDex);
+        eduDex.addPerson(IDA);
+        asyncStorageManager.saveEduDex(eduDex);
+        EduDex expected = new EduDex(eduDex);
+        eduDex.removePerson(HOON);
+
+        eduDexStorage.releaseWrites.countDown();
+        asyncStorageManager.flush();
+        assertEquals(2, eduDexStorage.writeCount.get());
+        assertEquals(expected, new EduDex(asyncStorageManager.readEduDex().get()));
+    }
+
+    @Test
+    public void saveEduDex_asynchronousWriteFails_failureReportedOnce() throws Exception {
+        JsonEduDexStorage failingStorage = new JsonEduDexStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveEduDex(ReadOnlyEduDex eduDex, Path filePath) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        StorageManager asyncStorageManager = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        asyncStorageManager.saveEduDex(getTypicalEduDex());
+        assertThrows(IOException.class, "disk full", asyncStorageManager::flush);
+        asyncStorageManager.checkSaveFailure();
+    }
+
+    /**
+     * A {@code JsonEduDexStorage} whose writes wait until {@code releaseWrites} is counted down.
+     */
+    private static class BlockingEduDexStorage extends JsonEduDexStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseWrites = new CountDownLatch(1);
+        private final AtomicInteger writeCount = new AtomicInteger();
+
+        BlockingEduDexStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveEduDex(ReadOnlyEduDex eduDex, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                releaseWrites.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writeCount.incrementAndGet();
+            super.saveEduDex(eduDex, filePath);
+        }
+    }
+
 }
@@ -0,0 +1,45 @@
+package seedu.edudex.testutil;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * A utility class for testing the Java Flight Recorder events of EduDex.
+ */
+public class FlightRecorderUtil {
+
+    /**
+     * Returns the events named {@code eventName} that were committed while {@code action} ran.
+     */
+    public static List<RecordedEvent> recordEvents(String eventName, Action action) throws Exception {
+        Path recordingFile = Files.createTempFile("edudex", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(recordingFile);
+            // events enabled by other recordings in the same JVM are recorded too
+            return RecordingFile.readAllEvents(recordingFile).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+    }
+
+    /**
+     * An action to record the events of.
+     */
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+}